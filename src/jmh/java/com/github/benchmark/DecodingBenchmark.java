@@ -0,0 +1,77 @@
+package com.github.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dto.popularrepos.OrgRepo;
+import com.github.dto.reposummary.Issue;
+import com.github.dto.reposummary.PullRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GitHub 목록 응답 한 페이지(100 건)를 JsonNode / Map 트리와 필요한 필드만 바인딩하는 DTO 로 디코딩할 때의
+ * 처리량과 할당량(-prof gc)을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DecodingBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private ObjectMapper objectMapper;
+    private byte[] issuesPage;
+    private byte[] pullRequestsPage;
+    private byte[] orgReposPage;
+
+    @Setup
+    public void setUp() {
+        // WebClient 기본 코덱과 같은 설정의 ObjectMapper
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        issuesPage = GithubFixtures.issues(PAGE_SIZE);
+        pullRequestsPage = GithubFixtures.pullRequests(PAGE_SIZE);
+        orgReposPage = GithubFixtures.orgRepos(PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<JsonNode> issuesAsJsonNode() throws IOException {
+        return objectMapper.readValue(issuesPage, new TypeReference<List<JsonNode>>() {});
+    }
+
+    @Benchmark
+    public List<Issue> issuesAsTypedDto() throws IOException {
+        return objectMapper.readValue(issuesPage, new TypeReference<List<Issue>>() {});
+    }
+
+    @Benchmark
+    public List<JsonNode> pullRequestsAsJsonNode() throws IOException {
+        return objectMapper.readValue(pullRequestsPage, new TypeReference<List<JsonNode>>() {});
+    }
+
+    @Benchmark
+    public List<PullRequest> pullRequestsAsTypedDto() throws IOException {
+        return objectMapper.readValue(pullRequestsPage, new TypeReference<List<PullRequest>>() {});
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> orgReposAsMap() throws IOException {
+        return objectMapper.readValue(orgReposPage, new TypeReference<List<Map<String, Object>>>() {});
+    }
+
+    @Benchmark
+    public List<OrgRepo> orgReposAsTypedDto() throws IOException {
+        return objectMapper.readValue(orgReposPage, new TypeReference<List<OrgRepo>>() {});
+    }
+}
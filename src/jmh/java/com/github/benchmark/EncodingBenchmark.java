@@ -0,0 +1,175 @@
+package com.github.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.github.cache.EncodedResponseCache;
+import com.github.config.GithubProperties;
+import com.github.dto.popularrepos.PopularRepoResponse;
+import com.github.dto.reposummary.IssueStats;
+import com.github.dto.reposummary.PullRequestStats;
+import com.github.dto.reposummary.RepoInfo;
+import com.github.dto.reposummary.RepoSummaryResponse;
+import com.github.dto.reposummary.TopActiveReviewer;
+import com.github.dto.reposummary.TopCommentedIssue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 캐시되는 응답 한 건을 형식(JSON / Smile / CBOR)과 gzip 여부별로 쓸 때의 ns/op 와 할당량(-prof gc)을 비교합니다.
+ * reflection 은 기본 ObjectMapper, blackbird 는 Blackbird 모듈을 등록한 ObjectMapper 로 매번 인코딩하고,
+ * preEncoded 는 EncodedResponseCache 에 보관된 바이트를 꺼냅니다. 형식별 응답 크기(bytes/op)는 설정 시 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EncodingBenchmark {
+
+    private static final int POPULAR_REPOS = 100;
+
+    @Param({"repo-summary", "popular-repos"})
+    public String response;
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    public EncodedResponseCache.Format format;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    private Object value;
+    private int gzipMinBytes;
+    private ObjectMapper reflectionMapper;
+    private ObjectMapper blackbirdMapper;
+    private EncodedResponseCache encodedResponses;
+
+    @Setup
+    public void setUp() throws IOException {
+        value = "repo-summary".equals(response) ? repoSummary() : popularRepos();
+
+        GithubProperties properties = new GithubProperties();
+        gzipMinBytes = properties.getEncoding().getGzipMinBytes();
+        reflectionMapper = forFormat(Jackson2ObjectMapperBuilder.json().build());
+        blackbirdMapper = forFormat(Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build());
+        encodedResponses = new EncodedResponseCache(properties,
+                Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build(), new SimpleMeterRegistry());
+
+        System.out.printf("[EncodingBenchmark] %s %s gzip=%s: %d bytes/op%n",
+                response, format, gzip, encodedResponses.representation(value, format, gzip).body().length);
+    }
+
+    @Benchmark
+    public byte[] reflection() throws IOException {
+        return encode(reflectionMapper);
+    }
+
+    @Benchmark
+    public byte[] blackbird() throws IOException {
+        return encode(blackbirdMapper);
+    }
+
+    @Benchmark
+    public byte[] preEncoded() {
+        return encodedResponses.representation(value, format, gzip).body();
+    }
+
+    private byte[] encode(ObjectMapper mapper) throws IOException {
+        byte[] body = mapper.writeValueAsBytes(value);
+        if (!gzip || body.length < gzipMinBytes) {
+            return body;
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    private ObjectMapper forFormat(ObjectMapper jsonMapper) {
+        return switch (format) {
+            case JSON -> jsonMapper;
+            case SMILE -> jsonMapper.copyWith(new SmileFactory());
+            case CBOR -> jsonMapper.copyWith(new CBORFactory());
+        };
+    }
+
+    private static RepoSummaryResponse repoSummary() {
+        return RepoSummaryResponse.builder()
+                .owner("octocat")
+                .repo("Hello-World")
+                .repoInfo(RepoInfo.builder()
+                        .name("Hello-World")
+                        .description("My first repository on GitHub!")
+                        .forks(2_451)
+                        .defaultBranch("master")
+                        .totalBranches(42)
+                        .totalCommits(12_874)
+                        .latestCommitDateUtc("2024-05-01T12:34:56Z")
+                        .size(108)
+                        .build())
+                .issueStats(IssueStats.builder()
+                        .totalIssues(1_532)
+                        .openIssues(311)
+                        .closedIssues(1_221)
+                        .avgTimeToCloseIssueHours(73.25)
+                        .topCommentedIssues(IntStream.range(0, 5)
+                                .mapToObj(i -> TopCommentedIssue.builder()
+                                        .issueNumber(1_000 + i)
+                                        .title("Found a bug #" + (1_000 + i))
+                                        .commentsCount(97 - i)
+                                        .build())
+                                .toList())
+                        .build())
+                .pullRequestStats(PullRequestStats.builder()
+                        .totalPrs(842)
+                        .openPrs(57)
+                        .closedPrs(785)
+                        .mergedPrs(640)
+                        .avgTimeToMergePrHours(19.5)
+                        .topActiveReviewers(IntStream.range(0, 5)
+                                .mapToObj(i -> TopActiveReviewer.builder()
+                                        .username("reviewer-" + i)
+                                        .reviewedPrsCount(120 - i * 7)
+                                        .build())
+                                .toList())
+                        .build())
+                .lastUpdatedUtc("2024-05-01T12:40:00Z")
+                .build();
+    }
+
+    private static PopularRepoResponse popularRepos() {
+        String[] languages = {"Java", "Kotlin", "Go", "TypeScript", "Python", "Rust", "C++"};
+        List<PopularRepoResponse.PopularRepo> repos = IntStream.range(0, POPULAR_REPOS)
+                .mapToObj(i -> PopularRepoResponse.PopularRepo.builder()
+                        .name("repo-" + i)
+                        .description("Repository number " + i + " of the benchmark organization")
+                        .stars(100_000 - i * 731)
+                        .forks(i % 500)
+                        .mainLanguage(languages[i % languages.length])
+                        .build())
+                .toList();
+
+        return PopularRepoResponse.builder()
+                .targetOwner("octo-org")
+                .totalPublicRepos(1_000)
+                .popularRepos(repos)
+                .lastUpdatedUtc("2024-05-01T12:40:00Z")
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.BiConsumer;
+
+/**
+ * fixtures/ 아래의 GitHub API 응답 원형을 복제하여 원하는 크기의 목록 응답(JSON 배열)을 만듭니다.
+ */
+public final class GithubFixtures {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Instant BASE_TIME = Instant.parse("2020-01-01T00:00:00Z");
+
+    private GithubFixtures() {
+    }
+
+    public static byte[] issues(int count) {
+        return array("issue.json", count, (issue, i) -> {
+            Instant createdAt = BASE_TIME.plus(Duration.ofHours(i));
+            boolean closed = i % 3 == 0;
+            issue.put("number", i + 1);
+            issue.put("title", "Found a bug #" + (i + 1));
+            issue.put("state", closed ? "closed" : "open");
+            issue.put("comments", (i * 31) % 97);
+            issue.put("created_at", createdAt.toString());
+            if (closed) {
+                issue.put("closed_at", createdAt.plus(Duration.ofHours(i % 72 + 1)).toString());
+            }
+            if (i % 10 == 0) {
+                issue.putObject("pull_request").put("url", "https://api.github.com/repos/octocat/Hello-World/pulls/" + (i + 1));
+            }
+        });
+    }
+
+    public static byte[] pullRequests(int count) {
+        return array("pull-request.json", count, (pr, i) -> {
+            Instant createdAt = BASE_TIME.plus(Duration.ofHours(i));
+            boolean merged = i % 2 == 0;
+            pr.put("number", i + 1);
+            pr.put("state", i % 5 == 0 ? "open" : "closed");
+            pr.put("created_at", createdAt.toString());
+            if (merged) {
+                pr.put("merged_at", createdAt.plus(Duration.ofHours(i % 48 + 1)).toString());
+            } else {
+                pr.putNull("merged_at");
+            }
+            ((ObjectNode) pr.get("requested_reviewers").get(0)).put("login", "reviewer-" + (i % 23));
+        });
+    }
+
+    public static byte[] userRepos(int count) {
+        String[] languages = {"Java", "Kotlin", "Go", "TypeScript", "Python", "Rust", "C++"};
+        return array("org-repo.json", count, (repo, i) -> {
+            repo.put("name", "repo-" + i);
+            if (i % 9 == 0) {
+                repo.putNull("language");
+            } else {
+                repo.put("language", languages[i % languages.length]);
+            }
+        });
+    }
+
+    public static byte[] orgRepos(int count) {
+        return array("org-repo.json", count, (repo, i) -> {
+            repo.put("name", "repo-" + i);
+            repo.put("stargazers_count", (i * 7919) % 100_000);
+            repo.put("forks_count", i % 500);
+        });
+    }
+
+    private static byte[] array(String fixture, int count, BiConsumer<ObjectNode, Integer> customizer) {
+        try (InputStream in = GithubFixtures.class.getResourceAsStream("/fixtures/" + fixture)) {
+            ObjectNode template = (ObjectNode) MAPPER.readTree(in);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // 10 만 건 규모에서도 배열 전체를 트리로 만들지 않도록 원소 단위로 기록
+            try (JsonGenerator generator = MAPPER.createGenerator(out)) {
+                generator.writeStartArray();
+                for (int i = 0; i < count; i++) {
+                    ObjectNode item = template.deepCopy();
+                    customizer.accept(item, i);
+                    MAPPER.writeTree(generator, item);
+                }
+                generator.writeEndArray();
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
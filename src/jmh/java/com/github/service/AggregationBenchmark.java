@@ -0,0 +1,147 @@
+package com.github.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benchmark.GithubFixtures;
+import com.github.dto.popularrepos.OrgRepo;
+import com.github.dto.reposummary.Issue;
+import com.github.dto.reposummary.IssueStats;
+import com.github.dto.reposummary.PullRequest;
+import com.github.dto.reposummary.PullRequestStats;
+import com.github.dto.userprofilesummary.LanguageDistribution;
+import com.github.dto.userprofilesummary.Repo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스의 집계 경로(이슈/PR 통계, 사용자 언어 분포, 인기 저장소 정렬)를 1k / 10k / 100k 건 목록으로 측정합니다.
+ * *DecodeAndAggregate 는 JSON 바이트부터 원소 단위로 디코딩하며 집계하고, 나머지는 디코딩된 목록의 집계만 측정합니다.
+ * 집계 클래스(서비스의 PopularRepoSelector / LanguageHistogram 포함)가 package-private 이므로 서비스와 같은 패키지에 둡니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AggregationBenchmark {
+
+    private static final int POPULAR_LIMIT = 3;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private byte[] issuesJson;
+    private byte[] pullRequestsJson;
+    private byte[] userReposJson;
+    private byte[] orgReposJson;
+    private List<Issue> issues;
+    private List<PullRequest> pullRequests;
+    private List<Repo> userRepos;
+    private List<OrgRepo> orgRepos;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        issuesJson = GithubFixtures.issues(size);
+        pullRequestsJson = GithubFixtures.pullRequests(size);
+        userReposJson = GithubFixtures.userRepos(size);
+        orgReposJson = GithubFixtures.orgRepos(size);
+
+        issues = objectMapper.readValue(issuesJson, new TypeReference<>() {});
+        pullRequests = objectMapper.readValue(pullRequestsJson, new TypeReference<>() {});
+        userRepos = objectMapper.readValue(userReposJson, new TypeReference<>() {});
+        orgRepos = objectMapper.readValue(orgReposJson, new TypeReference<>() {});
+    }
+
+    @Benchmark
+    public IssueStats issueStatsAggregate() {
+        IssueStatsAggregator aggregator = new IssueStatsAggregator();
+        for (Issue issue : issues) {
+            aggregator.accept(issue);
+        }
+        return aggregator.toIssueStats();
+    }
+
+    @Benchmark
+    public IssueStats issueStatsDecodeAndAggregate() throws IOException {
+        IssueStatsAggregator aggregator = new IssueStatsAggregator();
+        try (MappingIterator<Issue> iterator = objectMapper.readerFor(Issue.class).readValues(issuesJson)) {
+            while (iterator.hasNext()) {
+                aggregator.accept(iterator.next());
+            }
+        }
+        return aggregator.toIssueStats();
+    }
+
+    @Benchmark
+    public PullRequestStats pullRequestStatsAggregate() {
+        PullRequestStatsAggregator aggregator = new PullRequestStatsAggregator();
+        for (PullRequest pr : pullRequests) {
+            aggregator.accept(pr);
+        }
+        return aggregator.toPullRequestStats();
+    }
+
+    @Benchmark
+    public PullRequestStats pullRequestStatsDecodeAndAggregate() throws IOException {
+        PullRequestStatsAggregator aggregator = new PullRequestStatsAggregator();
+        try (MappingIterator<PullRequest> iterator = objectMapper.readerFor(PullRequest.class).readValues(pullRequestsJson)) {
+            while (iterator.hasNext()) {
+                aggregator.accept(iterator.next());
+            }
+        }
+        return aggregator.toPullRequestStats();
+    }
+
+    @Benchmark
+    public List<LanguageDistribution> languageDistribution() {
+        UserProfileSummaryService.LanguageHistogram histogram = new UserProfileSummaryService.LanguageHistogram();
+        for (Repo repo : userRepos) {
+            histogram.accept(repo);
+        }
+        return histogram.toLanguageDistribution();
+    }
+
+    @Benchmark
+    public List<LanguageDistribution> languageDistributionDecodeAndAggregate() throws IOException {
+        UserProfileSummaryService.LanguageHistogram histogram = new UserProfileSummaryService.LanguageHistogram();
+        try (MappingIterator<Repo> iterator = objectMapper.readerFor(Repo.class).readValues(userReposJson)) {
+            while (iterator.hasNext()) {
+                histogram.accept(iterator.next());
+            }
+        }
+        return histogram.toLanguageDistribution();
+    }
+
+    @Benchmark
+    public List<OrgRepo> popularRepos() {
+        PopularReposService.PopularRepoSelector selector = new PopularReposService.PopularRepoSelector(POPULAR_LIMIT);
+        for (OrgRepo repo : orgRepos) {
+            selector.accept(repo);
+        }
+        return selector.mostStarred();
+    }
+
+    @Benchmark
+    public List<OrgRepo> popularReposDecodeAndAggregate() throws IOException {
+        PopularReposService.PopularRepoSelector selector = new PopularReposService.PopularRepoSelector(POPULAR_LIMIT);
+        try (MappingIterator<OrgRepo> iterator = objectMapper.readerFor(OrgRepo.class).readValues(orgReposJson)) {
+            while (iterator.hasNext()) {
+                selector.accept(iterator.next());
+            }
+        }
+        return selector.mostStarred();
+    }
+}
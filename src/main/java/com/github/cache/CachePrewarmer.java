@@ -0,0 +1,94 @@
+package com.github.cache;
+
+import com.github.client.RateLimitFilter;
+import com.github.config.GithubProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 요청이 잦은 키의 캐시 항목이 만료되기 전에 주기적으로 다시 계산하여, 사용자 요청이 계산을 기다리지 않도록 합니다.
+ * 사전 계산이 보내는 GitHub 요청은 토큰의 reset 창마다 rate limit * rateLimitBudgetShare 까지로 제한하고, 다 쓴 토큰의 키는 다음 창까지 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class CachePrewarmer {
+
+    private final HotKeyTracker hotKeyTracker;
+    private final ResponseCache responseCache;
+    private final RateLimitFilter rateLimitFilter;
+    private final MeterRegistry meterRegistry;
+    private final GithubProperties.Prewarm properties;
+    private Disposable schedule;
+
+    public CachePrewarmer(HotKeyTracker hotKeyTracker, ResponseCache responseCache, RateLimitFilter rateLimitFilter,
+                          MeterRegistry meterRegistry, GithubProperties properties) {
+        this.hotKeyTracker = hotKeyTracker;
+        this.responseCache = responseCache;
+        this.rateLimitFilter = rateLimitFilter;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties.getPrewarm();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        // 이전 주기가 끝나지 않았으면 다음 주기는 건너뜀
+        schedule = Flux.interval(properties.getInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> prewarm(), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (schedule != null) {
+            schedule.dispose();
+        }
+    }
+
+    Mono<Long> prewarm() {
+        double share = properties.getRateLimitBudgetShare();
+
+        return Flux.fromIterable(hotKeyTracker.hottest(properties.getTopN()))
+                .filter(hotKey -> responseCache.isExpiringSoon(hotKey.cacheName(), hotKey.key(), properties.getRefreshAheadRatio()))
+                .filter(hotKey -> {
+                    boolean withinBudget = rateLimitFilter.withinPrewarmBudget(hotKey.authHeader(), share);
+                    if (!withinBudget) {
+                        count(hotKey.cacheName(), "skipped_budget");
+                    }
+                    return withinBudget;
+                })
+                .flatMap(hotKey -> rateLimitFilter.prewarm(responseCache.refresh(hotKey.cacheName(), hotKey.key(), hotKey.loader()), share)
+                        .doOnNext(value -> count(hotKey.cacheName(), "success"))
+                        .onErrorResume(RateLimitFilter.PrewarmBudgetExhaustedException.class, e -> {
+                            // 계산 도중 몫을 다 씀 - 캐시 항목은 그대로 두고 다음 창에 다시 계산
+                            count(hotKey.cacheName(), "skipped_budget");
+                            return Mono.empty();
+                        })
+                        .onErrorResume(e -> {
+                            count(hotKey.cacheName(), "error");
+                            log.warn("[Prewarm] {} {} failed: {}", hotKey.cacheName(), hotKey.key(), e.getMessage());
+                            return Mono.empty();
+                        }), properties.getWorkers())
+                .count()
+                .doOnNext(refreshed -> log.debug("[Prewarm] refreshed {} entries", refreshed))
+                .onErrorResume(e -> {
+                    log.warn("[Prewarm] cycle failed: {}", e.getMessage());
+                    return Mono.just(0L);
+                });
+    }
+
+    private void count(String cacheName, String outcome) {
+        meterRegistry.counter("github.prewarm.refreshes", "cache", cacheName, "outcome", outcome).increment();
+    }
+}
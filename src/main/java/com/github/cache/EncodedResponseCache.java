@@ -0,0 +1,184 @@
+package com.github.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.ben.manes.caffeine.cache.Cache;
+import com.github.ben.manes.caffeine.cache.Caffeine;
+import com.github.config.GithubProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 응답 객체를 형식(JSON / Smile / CBOR)과 압축(gzip)별로 한 번만 인코딩하여 보관합니다.
+ * 응답 캐시는 요청마다 같은 객체를 돌려주므로 객체 동일성(weak key)으로 찾으며, 응답 캐시에서 빠진 객체의 인코딩은 GC 시 함께 제거됩니다.
+ * ETag 는 JSON 바이트의 SHA-256 앞 16 byte 이고, 형식 / 압축이 다른 표현은 접미사로 구분합니다.
+ */
+@Component
+public class EncodedResponseCache {
+
+    public static final String CACHE_NAME = "encoded-responses";
+
+    public enum Format {
+        JSON(MediaType.APPLICATION_JSON, ""),
+        SMILE(MediaType.parseMediaType("application/x-jackson-smile"), "-smile"),
+        CBOR(MediaType.APPLICATION_CBOR, "-cbor");
+
+        private final MediaType mediaType;
+        private final String etagSuffix;
+
+        Format(MediaType mediaType, String etagSuffix) {
+            this.mediaType = mediaType;
+            this.etagSuffix = etagSuffix;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+
+        /**
+         * mediaType 과 호환되는 첫 형식. 지정되지 않았거나 알 수 없으면 JSON 입니다.
+         */
+        public static Format of(MediaType mediaType) {
+            if (mediaType != null) {
+                for (Format format : values()) {
+                    if (format.mediaType.isCompatibleWith(mediaType)) {
+                        return format;
+                    }
+                }
+            }
+            return JSON;
+        }
+    }
+
+    /**
+     * contentEncoding 은 압축하지 않았으면 null 입니다.
+     */
+    public record Representation(byte[] body, String contentEncoding, String etag) {
+    }
+
+    // 응답 객체를 참조하지 않아야 weak key 가 수거됨
+    private static final class Encoded {
+        private final byte[] json;
+        private final String hash;
+        // [형식][gzip 여부] 순서로 처음 요청될 때 채움 (동시에 채우면 같은 값을 한 번 더 계산할 뿐)
+        private final AtomicReferenceArray<Representation> representations = new AtomicReferenceArray<>(Format.values().length * 2);
+
+        private Encoded(byte[] json, String hash) {
+            this.json = json;
+            this.hash = hash;
+        }
+    }
+
+    private final boolean enabled;
+    private final int gzipMinBytes;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final ObjectMapper cborMapper;
+    private final Cache<Object, Encoded> encoded;
+
+    public EncodedResponseCache(GithubProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        GithubProperties.Encoding encoding = properties.getEncoding();
+
+        this.enabled = encoding.isEnabled();
+        this.gzipMinBytes = encoding.getGzipMinBytes();
+        this.jsonMapper = objectMapper;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+        this.encoded = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(encoding.getMaxEntries())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, encoded, CACHE_NAME);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * value 의 JSON 바이트. 응답 캐시의 무게 계산에 사용하여, 캐시에 들어가는 시점에 미리 인코딩합니다.
+     */
+    public byte[] json(Object value) {
+        return encoded(value).json;
+    }
+
+    /**
+     * value 를 format 으로 인코딩한 표현. gzip 이어도 gzipMinBytes 보다 작으면 압축하지 않은 표현을 반환합니다.
+     */
+    public Representation representation(Object value, Format format, boolean gzip) {
+        Encoded entry = encoded(value);
+        int index = format.ordinal() * 2 + (gzip ? 1 : 0);
+
+        Representation representation = entry.representations.get(index);
+        if (representation == null) {
+            representation = gzip ? gzip(entry, representation(value, format, false), format) : identity(entry, value, format);
+            entry.representations.set(index, representation);
+        }
+        return representation;
+    }
+
+    private Encoded encoded(Object value) {
+        return encoded.get(value, key -> {
+            byte[] json = writeValueAsBytes(jsonMapper, key);
+            return new Encoded(json, hash(json));
+        });
+    }
+
+    private Representation identity(Encoded entry, Object value, Format format) {
+        byte[] body = switch (format) {
+            case JSON -> entry.json;
+            case SMILE -> writeValueAsBytes(smileMapper, value);
+            case CBOR -> writeValueAsBytes(cborMapper, value);
+        };
+        return new Representation(body, null, etag(entry.hash + format.etagSuffix));
+    }
+
+    private Representation gzip(Encoded entry, Representation identity, Format format) {
+        if (identity.body().length < gzipMinBytes) {
+            return identity;
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(identity.body().length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(identity.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Representation(compressed.toByteArray(), "gzip", etag(entry.hash + format.etagSuffix + "-gzip"));
+    }
+
+    private static byte[] writeValueAsBytes(ObjectMapper mapper, Object value) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Failed to encode " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static String hash(byte[] json) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String etag(String tag) {
+        return '"' + tag + '"';
+    }
+}
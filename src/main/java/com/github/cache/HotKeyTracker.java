@@ -0,0 +1,91 @@
+package com.github.cache;
+
+import com.github.ben.manes.caffeine.cache.Cache;
+import com.github.ben.manes.caffeine.cache.Caffeine;
+import com.github.config.GithubProperties;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * API 요청 키별 호출 빈도를 추적합니다. 점수는 주기마다 decay 비율로 감소하여 최근 요청이 많은 키가 위로 올라옵니다.
+ * 다시 계산하기 위한 loader 는 최근 요청의 인증 헤더를 포함하며 메모리에만 보관됩니다.
+ */
+@Component
+public class HotKeyTracker {
+
+    public static final class HotKey {
+        private final String cacheName;
+        private final String key;
+        private final LongAdder hits = new LongAdder();
+        private volatile String authHeader;
+        private volatile Supplier<? extends Mono<?>> loader;
+        private double score;
+
+        HotKey(String cacheName, String key) {
+            this.cacheName = cacheName;
+            this.key = key;
+        }
+
+        public String cacheName() {
+            return cacheName;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        public String authHeader() {
+            return authHeader;
+        }
+
+        public Supplier<? extends Mono<?>> loader() {
+            return loader;
+        }
+
+        public double score() {
+            return score;
+        }
+    }
+
+    private final Cache<String, HotKey> keys;
+    private final double decay;
+    private final double minScore;
+
+    public HotKeyTracker(GithubProperties properties) {
+        GithubProperties.Prewarm prewarm = properties.getPrewarm();
+
+        this.keys = Caffeine.newBuilder()
+                .maximumSize(prewarm.getMaxTrackedKeys())
+                .expireAfterAccess(prewarm.getIdleTimeout())
+                .build();
+        this.decay = prewarm.getDecay();
+        this.minScore = prewarm.getMinScore();
+    }
+
+    public void record(String cacheName, String key, String authHeader, Supplier<? extends Mono<?>> loader) {
+        HotKey hotKey = keys.get(cacheName + ":" + key, k -> new HotKey(cacheName, key));
+        hotKey.authHeader = authHeader;
+        hotKey.loader = loader;
+        hotKey.hits.increment();
+    }
+
+    /**
+     * 지난 주기의 요청 수를 점수에 반영한 뒤, 점수가 minScore 이상인 상위 limit 개 키를 반환합니다.
+     */
+    public synchronized List<HotKey> hottest(int limit) {
+        for (HotKey hotKey : keys.asMap().values()) {
+            hotKey.score = hotKey.score * decay + hotKey.hits.sumThenReset();
+        }
+
+        return keys.asMap().values().stream()
+                .filter(hotKey -> hotKey.score >= minScore)
+                .sorted(Comparator.comparingDouble(HotKey::score).reversed())
+                .limit(limit)
+                .toList();
+    }
+}
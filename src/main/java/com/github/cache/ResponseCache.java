@@ -0,0 +1,237 @@
+package com.github.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.ben.manes.caffeine.cache.AsyncCache;
+import com.github.ben.manes.caffeine.cache.Cache;
+import com.github.ben.manes.caffeine.cache.Caffeine;
+import com.github.ben.manes.caffeine.cache.Expiry;
+import com.github.client.TokenIdentity;
+import com.github.config.GithubProperties;
+import com.github.dto.popularrepos.PopularRepoResponse;
+import com.github.dto.reposummary.RepoSummaryResponse;
+import com.github.dto.userprofilesummary.UserProfileResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 엔드포인트별 응답 캐시. 항목의 무게는 직렬화된 응답 크기(byte)로 계산하며, 이때 인코딩한 JSON 은 응답에 그대로 사용됩니다.
+ * 계산된 응답은 SnapshotStore 에도 기록되며, 기동 시 TTL 이 남은 스냅샷을 남은 시간만큼 다시 채웁니다.
+ * 마지막으로 계산된 값은 TTL 이 지난 뒤에도 staleRetention 동안 따로 보관하여 getStale 로 꺼낼 수 있습니다.
+ */
+@Slf4j
+@Component
+public class ResponseCache {
+
+    public static final String REPO_SUMMARY = "repo-summary";
+    public static final String USER_PROFILE = "user-profile";
+    public static final String POPULAR_REPOS = "popular-repos";
+
+    private static final Map<String, Class<?>> TYPES = Map.of(
+            REPO_SUMMARY, RepoSummaryResponse.class,
+            USER_PROFILE, UserProfileResponse.class,
+            POPULAR_REPOS, PopularRepoResponse.class);
+
+    private final ObjectMapper objectMapper;
+    private final EncodedResponseCache encodedResponses;
+    private final SnapshotStore snapshotStore;
+    private final boolean enabled;
+    private final Map<String, Duration> ttls;
+    private final Map<String, AsyncCache<String, Object>> caches;
+    private final Map<String, Cache<String, Object>> lastGood;
+    private final Duration staleRetention;
+
+    public ResponseCache(GithubProperties properties, ObjectMapper objectMapper, EncodedResponseCache encodedResponses,
+                         SnapshotStore snapshotStore, MeterRegistry meterRegistry) {
+        GithubProperties.Cache cacheProperties = properties.getCache();
+
+        this.objectMapper = objectMapper;
+        this.encodedResponses = encodedResponses;
+        this.snapshotStore = snapshotStore;
+        this.enabled = cacheProperties.isEnabled();
+        this.ttls = Map.of(
+                REPO_SUMMARY, cacheProperties.getRepoSummaryTtl(),
+                USER_PROFILE, cacheProperties.getUserProfileTtl(),
+                POPULAR_REPOS, cacheProperties.getPopularReposTtl());
+        this.caches = Map.of(
+                REPO_SUMMARY, build(REPO_SUMMARY, ttls.get(REPO_SUMMARY), cacheProperties.getMaxWeightBytes(), meterRegistry),
+                USER_PROFILE, build(USER_PROFILE, ttls.get(USER_PROFILE), cacheProperties.getMaxWeightBytes(), meterRegistry),
+                POPULAR_REPOS, build(POPULAR_REPOS, ttls.get(POPULAR_REPOS), cacheProperties.getMaxWeightBytes(), meterRegistry));
+        this.staleRetention = cacheProperties.getStaleRetention();
+        this.lastGood = Map.of(
+                REPO_SUMMARY, buildLastGood(cacheProperties),
+                USER_PROFILE, buildLastGood(cacheProperties),
+                POPULAR_REPOS, buildLastGood(cacheProperties));
+
+        if (enabled) {
+            snapshotStore.load(TYPES).forEach(this::restore);
+        }
+    }
+
+    public static String key(String authHeader, Object... parts) {
+        return keyPrefix(parts) + TokenIdentity.of(authHeader);
+    }
+
+    /**
+     * 인증 식별자를 제외한 키 앞부분. 같은 대상의 모든 토큰별 항목을 찾을 때 사용합니다.
+     */
+    public static String keyPrefix(Object... parts) {
+        StringBuilder prefix = new StringBuilder();
+        for (Object part : parts) {
+            prefix.append(String.valueOf(part).toLowerCase(Locale.ROOT)).append('/');
+        }
+        return prefix.toString();
+    }
+
+    /**
+     * 캐시에 값이 있으면 반환하고, 없으면 loader 로 계산한 값을 저장 후 반환합니다.
+     * 같은 키를 계산 중인 요청이 있으면 그 결과를 함께 기다립니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> get(String cacheName, String key, Supplier<Mono<T>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        AsyncCache<String, Object> cache = caches.get(cacheName);
+        return Mono.fromFuture(() -> cache.get(key, (k, executor) -> loader.get()
+                        .<Object>map(value -> value)
+                        .doOnNext(value -> {
+                            lastGood.get(cacheName).put(key, value);
+                            snapshotStore.append(cacheName, key, value);
+                        })
+                        .toFuture()), true)
+                .map(value -> (T) value);
+    }
+
+    /**
+     * TTL 과 관계없이 staleRetention 안에 마지막으로 계산된 값. 없거나 캐시를 사용하지 않으면 null 입니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getStale(String cacheName, String key) {
+        if (!enabled) {
+            return null;
+        }
+
+        return (T) lastGood.get(cacheName).getIfPresent(key);
+    }
+
+    /**
+     * 항목이 없거나 TTL 의 refreshAheadRatio 이상 지났으면 true. 캐시를 사용하지 않으면 항상 false 입니다.
+     */
+    public boolean isExpiringSoon(String cacheName, String key, double refreshAheadRatio) {
+        if (!enabled) {
+            return false;
+        }
+
+        long refreshAtRemainingMillis = (long) (ttls.get(cacheName).toMillis() * (1 - refreshAheadRatio));
+        return caches.get(cacheName).synchronous().policy().expireVariably()
+                .flatMap(expiration -> expiration.getExpiresAfter(key))
+                .map(remaining -> remaining.toMillis() <= refreshAtRemainingMillis)
+                .orElse(true);
+    }
+
+    /**
+     * 기존 항목과 관계없이 loader 로 다시 계산하여 저장합니다. 계산이 실패하면 기존 항목을 유지합니다.
+     */
+    public Mono<Object> refresh(String cacheName, String key, Supplier<? extends Mono<?>> loader) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+
+        AsyncCache<String, Object> cache = caches.get(cacheName);
+        return loader.get()
+                .<Object>map(value -> value)
+                .doOnNext(value -> {
+                    cache.put(key, CompletableFuture.completedFuture(value));
+                    lastGood.get(cacheName).put(key, value);
+                    snapshotStore.append(cacheName, key, value);
+                });
+    }
+
+    /**
+     * keyPrefix 로 시작하는 모든 항목(모든 토큰)을 제거합니다.
+     */
+    public void invalidate(String cacheName, String keyPrefix) {
+        if (!enabled) {
+            return;
+        }
+
+        caches.get(cacheName).synchronous().asMap().keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    // 스냅샷 기록 시각 기준으로 남은 TTL 만큼만 캐시에 보관하고, staleRetention 안이면 마지막 값으로도 보관
+    private void restore(SnapshotStore.Snapshot snapshot) {
+        Duration age = Duration.between(snapshot.writtenAt(), Instant.now());
+        if (age.compareTo(staleRetention) < 0) {
+            lastGood.get(snapshot.cacheName()).put(snapshot.key(), snapshot.value());
+        }
+
+        Duration remaining = ttls.get(snapshot.cacheName()).minus(age);
+        if (remaining.isNegative() || remaining.isZero()) {
+            return;
+        }
+
+        caches.get(snapshot.cacheName()).synchronous().policy().expireVariably()
+                .ifPresent(expiration -> expiration.put(snapshot.key(), snapshot.value(), remaining));
+    }
+
+    private AsyncCache<String, Object> build(String name, Duration ttl, long maxWeightBytes, MeterRegistry meterRegistry) {
+        AsyncCache<String, Object> cache = Caffeine.newBuilder()
+                .expireAfter(expireAfterWrite(ttl))
+                .maximumWeight(maxWeightBytes)
+                .weigher((String key, Object value) -> weigh(value))
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), name);
+        return cache;
+    }
+
+    private static Cache<String, Object> buildLastGood(GithubProperties.Cache cacheProperties) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(cacheProperties.getStaleRetention())
+                .maximumSize(cacheProperties.getStaleMaxEntries())
+                .build();
+    }
+
+    private static Expiry<String, Object> expireAfterWrite(Duration ttl) {
+        long ttlNanos = ttl.toNanos();
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, Object value, long currentTime) {
+                return ttlNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, Object value, long currentTime, long currentDuration) {
+                return ttlNanos;
+            }
+
+            @Override
+            public long expireAfterRead(String key, Object value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private int weigh(Object value) {
+        try {
+            return encodedResponses.isEnabled() ? encodedResponses.json(value).length : objectMapper.writeValueAsBytes(value).length;
+        } catch (JsonProcessingException | UncheckedIOException e) {
+            log.warn("Failed to weigh cached response: {}", e.getMessage());
+            return 1;
+        }
+    }
+}
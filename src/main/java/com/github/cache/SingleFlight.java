@@ -0,0 +1,57 @@
+package com.github.cache;
+
+import com.github.config.GithubProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키(엔드포인트, 파라미터, 인증 식별자)로 동시에 들어온 요청이 하나의 계산 결과를 공유하도록 합니다.
+ * 대기 요청 수를 세어 모두 취소(또는 maxWait 초과)되면 진행 중인 계산도 취소하고, 오류는 모든 대기 요청에 전달됩니다.
+ * 응답 캐시를 사용하면 캐시가 같은 키의 동시 조회를 이미 합치고 계산 future 가 구독을 유지하므로 취소되지 않으며,
+ * 이때는 캐시 조회와 CachePrewarmer 의 refresh 처럼 캐시를 거치지 않는 계산이 겹칠 때 결과를 공유하는 역할만 합니다.
+ */
+@Slf4j
+@Component
+public class SingleFlight {
+
+    private final ConcurrentMap<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+    private final Duration maxWait;
+
+    public SingleFlight(GithubProperties properties) {
+        this.maxWait = properties.getSingleFlight().getMaxWait();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String endpoint, String key, Supplier<Mono<T>> computation) {
+        String flightKey = endpoint + ":" + key;
+
+        return Mono.defer(() -> {
+                    Mono<T> shared = (Mono<T>) inFlight.computeIfAbsent(flightKey, k -> {
+                        AtomicReference<Mono<T>> self = new AtomicReference<>();
+                        // refCount(1): 첫 구독에서 계산을 시작하고, 구독자가 모두 취소하면 계산도 취소
+                        Mono<T> flight = computation.get()
+                                .doFinally(signal -> inFlight.remove(k, self.get()))
+                                .flux()
+                                .publish()
+                                .refCount(1)
+                                .next();
+                        self.set(flight);
+                        return flight;
+                    });
+                    return shared;
+                })
+                .timeout(maxWait)
+                .onErrorMap(TimeoutException.class, e -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT,
+                        "요청 처리 대기 시간 초과: " + endpoint));
+    }
+}
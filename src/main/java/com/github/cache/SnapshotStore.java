@@ -0,0 +1,291 @@
+package com.github.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.config.GithubProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * 계산된 응답을 로컬 파일에 append-only 로그로 기록하고, 기동 시 한 번에 읽어 응답 캐시를 채웁니다.
+ * 레코드는 [길이][캐시 이름][키][기록 시각][Smile 로 인코딩한 응답][CRC32] 형식이며, 비정상 종료로 잘린 꼬리 레코드는 무시합니다.
+ * 로그가 커지면 키별 최신 레코드 중 보존 기간 안의 것만 남기도록 다시 씁니다. 파일 쓰기는 전용 스레드 하나에서만 수행합니다.
+ */
+@Slf4j
+@Component
+public class SnapshotStore {
+
+    private static final int MAGIC = 0x47485353; // "GHSS"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+
+    public record Snapshot(String cacheName, String key, Instant writtenAt, Object value) {
+    }
+
+    private record Entry(String cacheName, String key, long writtenAtMillis, ByteBuffer body, ByteBuffer payload, int crc) {
+    }
+
+    private final GithubProperties.Snapshot properties;
+    private final ObjectMapper smileMapper;
+    private final Counter dropped;
+    private final ExecutorService writer;
+
+    // writer 스레드에서만 사용 (load 는 첫 append 전에 호출됨)
+    private FileChannel channel;
+    private long compactionThresholdBytes;
+
+    public SnapshotStore(GithubProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties.getSnapshot();
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.dropped = meterRegistry.counter("github.snapshot.dropped");
+        this.compactionThresholdBytes = this.properties.getCompactionMinBytes();
+        // 대기열이 가득 차면 기록을 건너뜀 (스냅샷은 캐시 복원용이므로 일부 유실을 허용)
+        this.writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(this.properties.getWriteQueueCapacity()),
+                task -> {
+                    Thread thread = new Thread(task, "snapshot-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, executor) -> dropped.increment());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 로그를 읽어 키별 최신 스냅샷 중 보존 기간 안의 것을 반환하고, 그 결과로 로그를 압축합니다.
+     * types 에 없는 캐시 이름이나 해석할 수 없는 레코드는 건너뜁니다.
+     */
+    public List<Snapshot> load(Map<String, Class<?>> types) {
+        if (!isEnabled() || !Files.exists(properties.getPath())) {
+            return List.of();
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            List<Entry> entries = compact();
+
+            List<Snapshot> snapshots = new ArrayList<>(entries.size());
+            for (Entry entry : entries) {
+                Class<?> type = types.get(entry.cacheName());
+                if (type == null) {
+                    continue;
+                }
+                try {
+                    Object value = smileMapper.readValue(entry.payload().array(),
+                            entry.payload().arrayOffset() + entry.payload().position(), entry.payload().remaining(), type);
+                    snapshots.add(new Snapshot(entry.cacheName(), entry.key(), Instant.ofEpochMilli(entry.writtenAtMillis()), value));
+                } catch (IOException e) {
+                    log.warn("[Snapshot] Skipping unreadable snapshot {}: {}", entry.key(), e.getMessage());
+                }
+            }
+
+            log.info("[Snapshot] Loaded {} snapshots from {} in {} ms", snapshots.size(), properties.getPath(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            return snapshots;
+        } catch (IOException e) {
+            log.warn("[Snapshot] Failed to load {}: {}", properties.getPath(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 응답을 비동기로 로그 끝에 기록합니다. 호출 스레드에서는 인코딩이나 파일 I/O 를 하지 않습니다.
+     */
+    public void append(String cacheName, String key, Object value) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        writer.execute(() -> {
+            try {
+                write(encode(cacheName, key, System.currentTimeMillis(), smileMapper.writeValueAsBytes(value)));
+                if (channel.size() > compactionThresholdBytes) {
+                    closeChannel();
+                    compact();
+                }
+            } catch (IOException e) {
+                log.warn("[Snapshot] Failed to append {}: {}", key, e.getMessage());
+                closeChannel();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        writer.shutdown();
+        if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("[Snapshot] Writer did not finish in time, pending snapshots are dropped");
+        }
+        closeChannel();
+    }
+
+    private void write(ByteBuffer record) throws IOException {
+        if (channel == null) {
+            Path parent = properties.getPath().toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            channel = FileChannel.open(properties.getPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip();
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+            }
+        }
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.force(true);
+            channel.close();
+        } catch (IOException e) {
+            log.warn("[Snapshot] Failed to close {}: {}", properties.getPath(), e.getMessage());
+        }
+        channel = null;
+    }
+
+    /**
+     * 로그 전체를 한 번에 읽어 키별 최신 레코드 중 보존 기간 안의 것만 임시 파일에 쓰고, 원래 파일과 교체합니다.
+     */
+    private List<Entry> compact() throws IOException {
+        Path path = properties.getPath();
+        List<Entry> entries = read(path);
+        long readBytes = Files.size(path);
+
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(tmp.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 64 * 1024))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            for (Entry entry : entries) {
+                ByteBuffer body = entry.body();
+                out.writeInt(body.remaining());
+                out.write(body.array(), body.arrayOffset() + body.position(), body.remaining());
+                out.writeInt(entry.crc());
+            }
+            out.flush();
+            file.getChannel().force(true);
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        long compactedBytes = Files.size(path);
+        compactionThresholdBytes = Math.max(properties.getCompactionMinBytes(), compactedBytes * 2);
+        log.debug("[Snapshot] Compacted {} -> {} bytes ({} entries)", readBytes, compactedBytes, entries.size());
+        return entries;
+    }
+
+    private List<Entry> read(Path path) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = file.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("snapshot log is too large: " + size + " bytes");
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && file.read(buffer) >= 0) {
+                // 파일 끝까지 읽음
+            }
+            buffer.flip();
+        }
+
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            log.warn("[Snapshot] Ignoring {} with unknown format", path);
+            return List.of();
+        }
+
+        long minWrittenAtMillis = System.currentTimeMillis() - properties.getRetention().toMillis();
+        Map<String, Entry> latest = new LinkedHashMap<>();
+        CRC32 crc32 = new CRC32();
+
+        while (buffer.remaining() >= Integer.BYTES) {
+            int length = buffer.getInt();
+            if (length <= 0 || buffer.remaining() < length + Integer.BYTES) {
+                break; // 기록 도중 종료되어 잘린 레코드
+            }
+
+            ByteBuffer body = buffer.slice(buffer.position(), length);
+            buffer.position(buffer.position() + length);
+            int crc = buffer.getInt();
+
+            crc32.reset();
+            crc32.update(body.duplicate());
+            if ((int) crc32.getValue() != crc) {
+                log.warn("[Snapshot] Corrupted record in {}, ignoring the rest of the log", path);
+                break;
+            }
+
+            ByteBuffer fields = body.duplicate();
+            String cacheName = readString(fields);
+            String key = readString(fields);
+            long writtenAtMillis = fields.getLong();
+            ByteBuffer payload = fields.slice();
+
+            String id = cacheName + '\n' + key;
+            latest.remove(id); // 최근 기록 순서를 유지
+            if (writtenAtMillis >= minWrittenAtMillis) {
+                latest.put(id, new Entry(cacheName, key, writtenAtMillis, body, payload, crc));
+            }
+        }
+
+        return new ArrayList<>(latest.values());
+    }
+
+    private static ByteBuffer encode(String cacheName, String key, long writtenAtMillis, byte[] payload) {
+        byte[] cacheNameBytes = cacheName.getBytes(StandardCharsets.UTF_8);
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int length = Short.BYTES + cacheNameBytes.length + Short.BYTES + keyBytes.length + Long.BYTES + payload.length;
+
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + length + Integer.BYTES);
+        record.putInt(length)
+                .putShort((short) cacheNameBytes.length).put(cacheNameBytes)
+                .putShort((short) keyBytes.length).put(keyBytes)
+                .putLong(writtenAtMillis)
+                .put(payload);
+
+        CRC32 crc32 = new CRC32();
+        crc32.update(record.array(), Integer.BYTES, length);
+        return record.putInt((int) crc32.getValue()).flip();
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
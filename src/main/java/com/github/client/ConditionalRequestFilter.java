@@ -0,0 +1,158 @@
+package com.github.client;
+
+import com.github.ben.manes.caffeine.cache.Cache;
+import com.github.ben.manes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * GitHub 응답의 ETag / Last-Modified 를 URL + 토큰 식별자 별로 저장해 두고, 다음 요청에 If-None-Match 를 붙입니다.
+ * 304 응답(rate limit 미차감)을 받으면 저장된 본문을 200 응답으로 재생합니다.
+ * 본문은 모으지 않고 그대로 흘려보내면서 maxEntryBytes 까지만 복사해 두며, 끝까지 읽힌 본문만 저장합니다.
+ * 더 큰 본문(여러 항목이 담긴 목록 페이지 등)은 저장하지 않으므로 요소 단위 디코딩을 그대로 사용합니다.
+ */
+@Slf4j
+public class ConditionalRequestFilter implements ExchangeFilterFunction {
+
+    private final Cache<String, CachedResponse> store;
+    private final long maxEntryBytes;
+    private final ExchangeStrategies strategies;
+
+    record CachedResponse(String etag, String lastModified, HttpHeaders headers, byte[] body) {
+    }
+
+    public ConditionalRequestFilter(long maxWeightBytes, long maxEntryBytes, ExchangeStrategies strategies) {
+        this.store = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String key, CachedResponse cached) -> cached.body().length)
+                .build();
+        this.maxEntryBytes = maxEntryBytes;
+        this.strategies = strategies;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (request.method() != HttpMethod.GET) {
+            return next.exchange(request);
+        }
+
+        String key = request.url() + "|" + TokenIdentity.of(request.headers().getFirst(HttpHeaders.AUTHORIZATION));
+        CachedResponse cached = store.getIfPresent(key);
+
+        return next.exchange(cached != null ? withValidators(request, cached) : request)
+                .flatMap(response -> {
+                    if (cached != null && response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                        log.debug("[Conditional] 304 Not Modified, replaying cached body: {}", request.url());
+                        HttpHeaders headers = replayHeaders(cached.headers(), response.headers().asHttpHeaders());
+                        return response.releaseBody()
+                                .then(Mono.fromSupplier(() -> rebuild(response, HttpStatus.OK, headers, cached.body())));
+                    }
+
+                    HttpHeaders headers = response.headers().asHttpHeaders();
+                    String etag = headers.getETag();
+                    String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+
+                    if (!response.statusCode().is2xxSuccessful() || (etag == null && lastModified == null)) {
+                        return Mono.just(response);
+                    }
+                    if (headers.getContentLength() > maxEntryBytes) {
+                        store.invalidate(key); // 이전에 저장한 작은 본문은 더 이상 최신이 아님
+                        return Mono.just(response);
+                    }
+
+                    return Mono.just(response.mutate()
+                            .body(body -> copying(body,
+                                    copy -> store.put(key, new CachedResponse(etag, lastModified, storedHeaders(headers), copy)),
+                                    () -> store.invalidate(key)))
+                            .build());
+                });
+    }
+
+    // 흘려보내는 버퍼를 maxEntryBytes 까지 복사하고, 본문을 끝까지 읽으면 onComplete 로 전달 (넘으면 복사를 멈추고 onOversized)
+    private Flux<DataBuffer> copying(Flux<DataBuffer> body, Consumer<byte[]> onComplete, Runnable onOversized) {
+        return Flux.defer(() -> {
+            ByteArrayOutputStream copy = new ByteArrayOutputStream();
+            boolean[] oversized = {false};
+            return body
+                    .doOnNext(buffer -> {
+                        if (oversized[0]) {
+                            return;
+                        }
+                        if (copy.size() + buffer.readableByteCount() > maxEntryBytes) {
+                            oversized[0] = true;
+                            copy.reset();
+                            onOversized.run();
+                            return;
+                        }
+                        byte[] bytes = new byte[buffer.readableByteCount()];
+                        int position = buffer.readPosition();
+                        buffer.read(bytes);
+                        buffer.readPosition(position);
+                        copy.writeBytes(bytes);
+                    })
+                    .doOnComplete(() -> {
+                        if (!oversized[0]) {
+                            onComplete.accept(copy.toByteArray());
+                        }
+                    });
+        });
+    }
+
+    private ClientRequest withValidators(ClientRequest request, CachedResponse cached) {
+        return ClientRequest.from(request)
+                .headers(headers -> {
+                    if (cached.etag() != null) {
+                        headers.setIfNoneMatch(cached.etag());
+                    } else {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+                    }
+                })
+                .build();
+    }
+
+    private ClientResponse rebuild(ClientResponse original, HttpStatusCode status, HttpHeaders headers, byte[] body) {
+        return ClientResponse.create(status, strategies)
+                .headers(target -> target.addAll(headers))
+                .request(original.request())
+                .body(Mono.fromSupplier(() -> (DataBuffer) DefaultDataBufferFactory.sharedInstance.wrap(body)).flux())
+                .build();
+    }
+
+    private static HttpHeaders storedHeaders(HttpHeaders source) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(source);
+        // 저장된 본문은 압축 해제된 원본이므로 전송 관련 헤더는 제거
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        headers.remove(HttpHeaders.CONTENT_ENCODING);
+        headers.remove(HttpHeaders.TRANSFER_ENCODING);
+        return headers;
+    }
+
+    private static HttpHeaders replayHeaders(HttpHeaders cached, HttpHeaders notModified) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(cached);
+        // rate limit 관련 헤더는 최신 304 응답 값을 사용
+        notModified.forEach((name, values) -> {
+            if (name.toLowerCase(Locale.ROOT).startsWith("x-ratelimit")) {
+                headers.put(name, values);
+            }
+        });
+        return headers;
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.client;
+
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 계산이 나눠 쓰는 GitHub 요청 동시 실행 한도. 허가를 얻지 못한 요청은 스레드를 막지 않고 대기열에서 기다립니다.
+ * limit 으로 감싼 Mono 안에서 WebClient 로 보내는 요청은 filter() 가 허가를 얻은 뒤 보내고, 응답 본문을 다 읽거나 실패 / 취소되면 반납합니다.
+ */
+public final class FetchLimiter {
+
+    private static final String CONTEXT_KEY = FetchLimiter.class.getName();
+    private static final int WAITING = 0;
+    private static final int GRANTED = 1;
+    private static final int CANCELLED = 2;
+
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private int available;
+
+    private static final class Waiter {
+        final AtomicInteger state = new AtomicInteger(WAITING);
+        final MonoSink<Permit> sink;
+
+        Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+
+    /**
+     * 한 번만 반납되는 허가.
+     */
+    public final class Permit {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                FetchLimiter.this.release();
+            }
+        }
+    }
+
+    public FetchLimiter(int permits) {
+        this.available = Math.max(1, permits);
+    }
+
+    /**
+     * source 안의 GitHub 요청이 이 한도를 함께 쓰도록 합니다.
+     */
+    public <T> Mono<T> limit(Mono<T> source) {
+        return source.contextWrite(context -> context.put(CONTEXT_KEY, this));
+    }
+
+    /**
+     * 요청을 감싼 FetchLimiter 가 있으면 허가를 얻은 뒤 요청하는 filter. 없으면 그대로 요청합니다.
+     */
+    public static ExchangeFilterFunction filter() {
+        return (request, next) -> Mono.deferContextual(context -> {
+            FetchLimiter limiter = context.getOrDefault(CONTEXT_KEY, null);
+            if (limiter == null) {
+                return next.exchange(request);
+            }
+
+            return limiter.acquire().flatMap(permit -> next.exchange(request)
+                    .map(response -> response.mutate()
+                            .body(body -> body.doFinally(signal -> permit.release()))
+                            .build())
+                    .doOnError(e -> permit.release())
+                    .doOnCancel(permit::release));
+        });
+    }
+
+    public Mono<Permit> acquire() {
+        return Mono.create(sink -> {
+            Waiter waiter = new Waiter(sink);
+            synchronized (this) {
+                if (available > 0) {
+                    available--;
+                    waiter.state.set(GRANTED);
+                } else {
+                    waiters.add(waiter);
+                }
+            }
+
+            sink.onCancel(() -> {
+                if (waiter.state.compareAndSet(WAITING, CANCELLED)) {
+                    synchronized (this) {
+                        waiters.remove(waiter);
+                    }
+                } else if (waiter.state.get() == GRANTED) {
+                    // 허가를 받았지만 전달되기 전에 취소됨 (전달된 뒤의 취소는 onCancel 을 호출하지 않음)
+                    release();
+                }
+            });
+
+            if (waiter.state.get() == GRANTED) {
+                sink.success(new Permit());
+            }
+        });
+    }
+
+    private void release() {
+        while (true) {
+            Waiter next;
+            synchronized (this) {
+                next = waiters.poll();
+                if (next == null) {
+                    available++;
+                    return;
+                }
+            }
+            // 대기 중 취소된 요청은 건너뜀
+            if (next.state.compareAndSet(WAITING, GRANTED)) {
+                next.sink.success(new Permit());
+                return;
+            }
+        }
+    }
+
+    synchronized int available() {
+        return available;
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.client;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GitHub API 호출을 경로 템플릿(/repos/{owner}/{repo}/issues 등) 별로 계측합니다.
+ * 응답 본문을 모두 받을 때까지의 시간(github.api.requests)과 받은 바이트 수(github.api.response.size)를 기록하며,
+ * 가장 안쪽 filter 로 등록되어 조건부 요청의 304 와 rate limit 재시도도 실제 호출 단위로 집계됩니다.
+ */
+public class GithubMetricsFilter implements ExchangeFilterFunction {
+
+    // uri(String, Object...) 로 요청하면 WebClient 가 템플릿을 이 속성에 저장함
+    private static final String URI_TEMPLATE_ATTRIBUTE = WebClient.class.getName() + ".uriTemplate";
+    public static final String ROUTE_ATTRIBUTE = GithubMetricsFilter.class.getName() + ".route";
+
+    private final MeterRegistry meterRegistry;
+
+    public GithubMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String route = route(request);
+        String method = request.method().name();
+        long startNanos = System.nanoTime();
+
+        return next.exchange(request)
+                .doOnError(e -> timer(route, method, "IO_ERROR", "UNKNOWN")
+                        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS))
+                .map(response -> {
+                    String status = String.valueOf(response.statusCode().value());
+                    String outcome = outcome(response);
+                    AtomicLong bytes = new AtomicLong();
+
+                    return response.mutate()
+                            .body(body -> body
+                                    .doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()))
+                                    .doFinally(signal -> {
+                                        timer(route, method, status, outcome)
+                                                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                                        responseSize(route).record(bytes.get());
+                                    }))
+                            .build();
+                });
+    }
+
+    private Timer timer(String route, String method, String status, String outcome) {
+        return Timer.builder("github.api.requests")
+                .description("GitHub API calls until the response body is fully received")
+                .tag("route", route)
+                .tag("method", method)
+                .tag("status", status)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary responseSize(String route) {
+        return DistributionSummary.builder("github.api.response.size")
+                .description("Bytes received per GitHub API call")
+                .baseUnit("bytes")
+                .tag("route", route)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String route(ClientRequest request) {
+        return request.attribute(ROUTE_ATTRIBUTE)
+                .or(() -> request.attribute(URI_TEMPLATE_ATTRIBUTE))
+                .map(Object::toString)
+                .orElse("none");
+    }
+
+    private static String outcome(ClientResponse response) {
+        if (response.statusCode().is2xxSuccessful() || response.statusCode().value() == 304) return "SUCCESS";
+        if (response.statusCode().is4xxClientError()) return "CLIENT_ERROR";
+        if (response.statusCode().is5xxServerError()) return "SERVER_ERROR";
+        return "UNKNOWN";
+    }
+}
@@ -0,0 +1,216 @@
+package com.github.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.config.GithubProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GithubPaginator {
+
+    private static final ParameterizedTypeReference<JsonNode> JSON_NODE = new ParameterizedTypeReference<>() {};
+    private static final Pattern LAST_PAGE_LINK = Pattern.compile("<([^>]+)>;\\s*rel=\"last\"");
+
+    private final WebClient webClient;
+    private final GithubProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public <T> Flux<T> fetchAll(String path, Map<String, ?> queryParams, Class<T> elementType,
+                                String authHeader, Object... uriVariables) {
+        return fetchAll(path, queryParams, ParameterizedTypeReference.forType(elementType), authHeader, uriVariables);
+    }
+
+    /**
+     * 첫 페이지의 Link 헤더(rel="last")로 전체 페이지 수를 확인한 뒤, 나머지 페이지를 동시에 요청합니다.
+     * 결과는 페이지 순서대로 합쳐지며, 각 페이지는 응답 버퍼에서 원소 단위로 디코딩되어 페이지 전체를 메모리에 모으지 않습니다.
+     */
+    public <T> Flux<T> fetchAll(String path, Map<String, ?> queryParams, ParameterizedTypeReference<T> elementType,
+                                String authHeader, Object... uriVariables) {
+        int perPage = properties.getPagination().getPerPage();
+        int concurrency = properties.getPagination().getConcurrency();
+
+        return pageRequest(path, queryParams, perPage, 1, authHeader, uriVariables)
+                .<T>exchangeToFlux(firstPage -> {
+                    if (firstPage.statusCode().isError()) {
+                        return firstPage.createException().<T>flatMapMany(Mono::error);
+                    }
+
+                    int lastPage = lastPage(firstPage.headers().asHttpHeaders());
+                    pagesPerFetch(path).record(lastPage);
+                    Flux<T> first = firstPage.bodyToFlux(elementType);
+
+                    if (lastPage <= 1) {
+                        return first;
+                    }
+
+                    log.debug("[Pagination] {} : {} pages, concurrency {}", path, lastPage, concurrency);
+
+                    return Flux.range(1, lastPage)
+                            .flatMapSequential(page -> page == 1 ? first
+                                    : pageRequest(path, queryParams, perPage, page, authHeader, uriVariables)
+                                            .retrieve()
+                                            .bodyToFlux(elementType), concurrency);
+                });
+    }
+
+    /**
+     * 전체 개수를 다른 응답(예: 사용자 정보의 public_repos)으로 알 수 있을 때 사용합니다.
+     * 첫 페이지는 개수를 기다리지 않고 바로 요청하고, 개수가 도착하면 나머지 페이지를 Link 헤더 없이 한 번에 동시에 요청합니다.
+     * 원소는 페이지가 도착하는 순서대로 내보내며, 개수가 실제보다 적었다면 마지막 페이지부터 rel="next" 를 따라 이어서 조회합니다.
+     */
+    public <T> Flux<T> fetchCounted(String path, Map<String, ?> queryParams, Class<T> elementType, Mono<Integer> totalCount,
+                                    String authHeader, Object... uriVariables) {
+        int perPage = properties.getPagination().getPerPage();
+        int concurrency = properties.getPagination().getConcurrency();
+        ParameterizedTypeReference<T> type = ParameterizedTypeReference.forType(elementType);
+
+        Mono<Page<T>> firstPage = fetchPage(path, queryParams, perPage, 1, type, authHeader, uriVariables)
+                .map(response -> new Page<>(1, response))
+                .cache();
+
+        Flux<Page<T>> plannedPages = totalCount.flatMapMany(count -> {
+            int lastPage = Math.max(1, (count + perPage - 1) / perPage);
+            pagesPerFetch(path).record(lastPage);
+            log.debug("[Pagination] {} : {} pages planned from count {}, concurrency {}", path, lastPage, count, concurrency);
+
+            return Flux.range(1, lastPage)
+                    .flatMap(number -> {
+                        Mono<Page<T>> page = number == 1 ? firstPage
+                                : fetchPage(path, queryParams, perPage, number, type, authHeader, uriVariables)
+                                        .map(response -> new Page<>(number, response));
+
+                        return number < lastPage ? page : page.expand(last -> hasNextPage(last.response().getHeaders())
+                                ? fetchPage(path, queryParams, perPage, last.number() + 1, type, authHeader, uriVariables)
+                                        .map(response -> new Page<>(last.number() + 1, response))
+                                : Mono.<Page<T>>empty());
+                    }, concurrency);
+        });
+
+        return Flux.merge(firstPage.then(Mono.<Page<T>>empty()), plannedPages)
+                .concatMapIterable(page -> bodyOf(page.response()));
+    }
+
+    /**
+     * 페이지를 순서대로 하나씩 요청하며 condition 을 만족하는 원소까지만 내보냅니다.
+     * 수정 시각 내림차순(sort=updated&direction=desc) 목록에서 마지막 조회 이후 변경분만 읽을 때 사용합니다.
+     */
+    public <T> Flux<T> fetchWhile(String path, Map<String, ?> queryParams, Class<T> elementType, Predicate<? super T> condition,
+                                  String authHeader, Object... uriVariables) {
+        int perPage = properties.getPagination().getPerPage();
+        ParameterizedTypeReference<T> type = ParameterizedTypeReference.forType(elementType);
+
+        return fetchPage(path, queryParams, perPage, 1, type, authHeader, uriVariables)
+                .map(response -> new Page<>(1, response))
+                .expand(page -> {
+                    List<T> items = bodyOf(page.response());
+                    boolean hasNext = hasNextPage(page.response().getHeaders())
+                            && !items.isEmpty() && condition.test(items.get(items.size() - 1));
+
+                    return hasNext
+                            ? fetchPage(path, queryParams, perPage, page.number() + 1, type, authHeader, uriVariables)
+                                    .map(response -> new Page<>(page.number() + 1, response))
+                            : Mono.<Page<T>>empty();
+                })
+                .concatMapIterable(page -> bodyOf(page.response()))
+                .takeWhile(condition);
+    }
+
+    private record Page<T>(int number, ResponseEntity<List<T>> response) {
+    }
+
+    /**
+     * per_page=1 로 한 번만 요청하고, Link 헤더의 rel="last" 페이지 번호를 전체 개수로 사용합니다.
+     * Link 헤더가 없으면 결과가 한 페이지(per_page=1)에 모두 담긴 것이므로 첫 페이지의 항목 수가 전체 개수입니다.
+     */
+    public Mono<Long> count(String path, Map<String, ?> queryParams, String authHeader, Object... uriVariables) {
+        return fetchPage(path, queryParams, 1, 1, JSON_NODE, authHeader, uriVariables)
+                // Link 헤더나 rel="last" 가 없으면 첫 페이지가 마지막 페이지
+                .map(firstPage -> (long) findLastPage(firstPage.getHeaders()).orElse(bodyOf(firstPage).size()));
+    }
+
+    private <T> Mono<ResponseEntity<List<T>>> fetchPage(String path, Map<String, ?> queryParams, int perPage, int page,
+                                                        ParameterizedTypeReference<T> elementType,
+                                                        String authHeader, Object... uriVariables) {
+        return pageRequest(path, queryParams, perPage, page, authHeader, uriVariables)
+                .retrieve()
+                .toEntityList(elementType);
+    }
+
+    private WebClient.RequestHeadersSpec<?> pageRequest(String path, Map<String, ?> queryParams, int perPage, int page,
+                                                        String authHeader, Object... uriVariables) {
+        WebClient.RequestHeadersSpec<?> request = webClient.get()
+                .uri(uriBuilder -> {
+                    uriBuilder.path(path);
+                    queryParams.forEach((name, value) -> uriBuilder.queryParam(name, value));
+                    return uriBuilder
+                            .queryParam("per_page", perPage)
+                            .queryParam("page", page)
+                            .build(uriVariables);
+                })
+                .attribute(GithubMetricsFilter.ROUTE_ATTRIBUTE, path)
+                // 2 페이지 이후는 대량 조회로 분류하여 rate limit 잔량이 적을 때 대화형 요청보다 뒤로 미룸
+                .attribute(RateLimitFilter.PRIORITY_ATTRIBUTE, page > 1 ? RateLimitFilter.Priority.BULK : RateLimitFilter.Priority.INTERACTIVE);
+
+        if (authHeader != null && !authHeader.isBlank()) {
+            request = request.header(HttpHeaders.AUTHORIZATION, authHeader);
+        }
+
+        return request;
+    }
+
+    private DistributionSummary pagesPerFetch(String path) {
+        return DistributionSummary.builder("github.api.pages")
+                .description("Pages fetched per paginated GitHub listing")
+                .tag("route", path)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private <T> List<T> bodyOf(ResponseEntity<List<T>> response) {
+        return response.getBody() != null ? response.getBody() : Collections.emptyList();
+    }
+
+    static boolean hasNextPage(HttpHeaders headers) {
+        String link = headers.getFirst(HttpHeaders.LINK);
+        return link != null && link.contains("rel=\"next\"");
+    }
+
+    static int lastPage(HttpHeaders headers) {
+        return findLastPage(headers).orElse(1);
+    }
+
+    static OptionalInt findLastPage(HttpHeaders headers) {
+        String link = headers.getFirst(HttpHeaders.LINK);
+        if (link == null) {
+            return OptionalInt.empty();
+        }
+
+        Matcher matcher = LAST_PAGE_LINK.matcher(link);
+        if (!matcher.find()) {
+            return OptionalInt.empty();
+        }
+
+        String page = UriComponentsBuilder.fromUriString(matcher.group(1)).build().getQueryParams().getFirst("page");
+        return page != null ? OptionalInt.of(Integer.parseInt(page)) : OptionalInt.empty();
+    }
+}
@@ -0,0 +1,355 @@
+package com.github.client;
+
+import com.github.ben.manes.caffeine.cache.Cache;
+import com.github.ben.manes.caffeine.cache.Caffeine;
+import com.github.config.GithubProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.OptionalInt;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토큰별 GitHub rate limit 잔량(X-RateLimit-*)을 추적하여 reset 전에 한도가 소진되지 않도록 요청 간격을 조절합니다.
+ * 대량 조회(BULK) 요청은 잔량의 일부를 대화형(INTERACTIVE) 요청 몫으로 남겨 두고,
+ * secondary rate limit(Retry-After, 또는 본문에 secondary rate limit 이 명시된 403/429)은 jitter 를 준 지수 백오프로 재시도하고,
+ * 한도 소진(잔량 0 인 403/429)은 reset 이 maxResetWait 안이면 reset 까지 기다린 뒤 재시도, 아니면 바로 실패합니다.
+ * 토큰 / 리소스별 잔량은 개수와 보관 기간이 제한된 캐시에 두고, 지표는 리소스별로 합산하여 토큰 수만큼 늘어나지 않게 합니다.
+ * prewarm 으로 감싼 요청(사전 계산)은 reset 창마다 보낸 수를 세어, 한도 * share 에 이르면 보내지 않고 PrewarmBudgetExhaustedException 으로 실패합니다.
+ */
+@Slf4j
+public class RateLimitFilter implements ExchangeFilterFunction {
+
+    public static final String PRIORITY_ATTRIBUTE = RateLimitFilter.class.getName() + ".priority";
+
+    public enum Priority {
+        INTERACTIVE, BULK
+    }
+
+    private static final List<String> RESOURCES = List.of("core", "search", "graphql");
+    private static final String PREWARM_CONTEXT_KEY = RateLimitFilter.class.getName() + ".prewarm";
+
+    private final GithubProperties.RateLimit properties;
+    private final Cache<String, Budget> budgets;
+    private final Timer pacingTimer;
+    private final Counter secondaryRetries;
+    private final Counter resetRetries;
+
+    static final class Budget {
+        final AtomicInteger limit = new AtomicInteger(-1);
+        final AtomicInteger remaining = new AtomicInteger(-1);
+        volatile long resetEpochSecond;
+        // 다음 요청이 나갈 수 있는 시각 (epoch millis). 동시 요청이 간격을 나눠 갖도록 CAS 로 예약
+        final AtomicLong nextAllowedAt = new AtomicLong();
+        // 사전 계산 요청 수와 그 수를 센 reset 창 (resetEpochSecond)
+        private long prewarmWindow;
+        private int prewarmRequests;
+
+        synchronized int prewarmRequests() {
+            return prewarmWindow == resetEpochSecond ? prewarmRequests : 0;
+        }
+
+        // reset 창이 바뀌었으면 새로 세고, 한도 * share 미만이면 1 증가 (한도를 모르면 제한하지 않음)
+        synchronized boolean tryAcquirePrewarm(double share) {
+            if (prewarmWindow != resetEpochSecond) {
+                prewarmWindow = resetEpochSecond;
+                prewarmRequests = 0;
+            }
+            if (limit.get() > 0 && prewarmRequests >= share * limit.get()) {
+                return false;
+            }
+            prewarmRequests++;
+            return true;
+        }
+    }
+
+    static final class SecondaryRateLimitException extends RuntimeException {
+        final Duration retryAfter;
+
+        SecondaryRateLimitException(Duration retryAfter) {
+            super("GitHub secondary rate limit");
+            this.retryAfter = retryAfter;
+        }
+    }
+
+    static final class RateLimitExhaustedException extends RuntimeException {
+        final Duration untilReset;
+
+        RateLimitExhaustedException(Duration untilReset) {
+            super("GitHub rate limit exhausted");
+            this.untilReset = untilReset;
+        }
+    }
+
+    public static final class PrewarmBudgetExhaustedException extends RuntimeException {
+        PrewarmBudgetExhaustedException() {
+            super("GitHub rate limit share for prewarm used up");
+        }
+    }
+
+    public RateLimitFilter(GithubProperties.RateLimit properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.budgets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedBudgets())
+                .expireAfterAccess(properties.getBudgetRetention())
+                .build();
+        this.pacingTimer = Timer.builder("github.ratelimit.pacing.delay")
+                .description("Delay applied before GitHub requests to stay within the rate limit budget")
+                .register(meterRegistry);
+        this.secondaryRetries = Counter.builder("github.ratelimit.retries")
+                .description("Retries after GitHub rate limit responses")
+                .tag("reason", "secondary")
+                .register(meterRegistry);
+        this.resetRetries = Counter.builder("github.ratelimit.retries")
+                .description("Retries after GitHub rate limit responses")
+                .tag("reason", "reset")
+                .register(meterRegistry);
+
+        for (String resource : RESOURCES) {
+            Gauge.builder("github.ratelimit.remaining", this, filter -> filter.lowestRemaining(resource))
+                    .description("Lowest remaining GitHub rate limit across tracked tokens")
+                    .tag("resource", resource)
+                    .register(meterRegistry);
+        }
+        Gauge.builder("github.ratelimit.budgets", budgets, Cache::estimatedSize)
+                .description("Tracked GitHub rate limit budgets (token and resource)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String identity = TokenIdentity.of(request.headers().getFirst(HttpHeaders.AUTHORIZATION));
+        String resource = resource(request.url().getPath());
+        Budget budget = budgets.get(identity + "|" + resource, key -> new Budget());
+        Priority priority = (Priority) request.attribute(PRIORITY_ATTRIBUTE).orElse(Priority.INTERACTIVE);
+        AtomicInteger attempts = new AtomicInteger();
+
+        return Mono.deferContextual(context -> {
+                    Double prewarmShare = context.getOrDefault(PREWARM_CONTEXT_KEY, null);
+                    if (prewarmShare != null && !budget.tryAcquirePrewarm(prewarmShare)) {
+                        return Mono.<ClientResponse>error(new PrewarmBudgetExhaustedException());
+                    }
+
+                    Duration delay = pacingDelay(budget, priority);
+                    budget.remaining.updateAndGet(value -> value > 0 ? value - 1 : value);
+
+                    Mono<ClientResponse> exchange = next.exchange(request)
+                            .flatMap(response -> onResponse(budget, response, attempts.incrementAndGet()));
+
+                    if (delay.isZero()) {
+                        return exchange;
+                    }
+
+                    pacingTimer.record(delay);
+                    log.debug("[RateLimit] {} request to {} paced by {} ms", priority, request.url().getPath(), delay.toMillis());
+                    return Mono.delay(delay).then(exchange);
+                })
+                .retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                    if (signal.failure() instanceof RateLimitExhaustedException exhausted) {
+                        resetRetries.increment();
+                        log.warn("[RateLimit] rate limit exhausted on {}, retrying after reset in {} ms",
+                                request.url().getPath(), exhausted.untilReset.toMillis());
+                        return Mono.delay(exhausted.untilReset);
+                    }
+                    if (!(signal.failure() instanceof SecondaryRateLimitException limited)) {
+                        return Mono.<Long>error(signal.failure());
+                    }
+                    Duration backoff = backoff(signal.totalRetries(), limited.retryAfter);
+                    secondaryRetries.increment();
+                    log.warn("[RateLimit] secondary rate limit on {}, retrying in {} ms", request.url().getPath(), backoff.toMillis());
+                    return Mono.delay(backoff);
+                })));
+    }
+
+    /**
+     * source 안의 GitHub 요청을 사전 계산 요청으로 세어, 리소스별 reset 창마다 한도 * share 까지만 보내도록 합니다.
+     */
+    public <T> Mono<T> prewarm(Mono<T> source, double share) {
+        return source.contextWrite(context -> context.put(PREWARM_CONTEXT_KEY, share));
+    }
+
+    /**
+     * 현재 reset 창에서 토큰의 REST(core) 사전 계산 요청 수가 한도 * share 미만이면 true. 아직 응답을 받은 적이 없으면 true 입니다.
+     */
+    public boolean withinPrewarmBudget(String authHeader, double share) {
+        Budget budget = budgets.getIfPresent(TokenIdentity.of(authHeader) + "|core");
+        return budget == null || budget.limit.get() <= 0 || budget.prewarmRequests() < share * budget.limit.get();
+    }
+
+    // REST(core), 검색(search), GraphQL 은 한도가 따로 관리됨
+    private static String resource(String path) {
+        if (path.endsWith("/graphql")) return "graphql";
+        if (path.contains("/search/")) return "search";
+        return "core";
+    }
+
+    private Mono<ClientResponse> onResponse(Budget budget, ClientResponse response, int attempt) {
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        update(budget, headers);
+
+        if (attempt > properties.getMaxRetries() || !isRateLimitStatus(response)) {
+            // 재시도 횟수를 모두 소진하면 원래 응답을 그대로 전달하여 GlobalExceptionHandler 에서 처리
+            return Mono.just(response);
+        }
+
+        if (headers.containsKey(HttpHeaders.RETRY_AFTER)) {
+            return response.releaseBody().then(Mono.error(new SecondaryRateLimitException(retryAfter(headers))));
+        }
+
+        // 한도 소진은 reset 전에는 재시도해도 실패하므로 reset 이 가까울 때만 기다림
+        Duration untilReset = untilReset(headers);
+        if (untilReset != null) {
+            return untilReset.compareTo(properties.getMaxResetWait()) <= 0
+                    ? response.releaseBody().then(Mono.error(new RateLimitExhaustedException(untilReset)))
+                    : Mono.just(response);
+        }
+
+        // 권한 부족 / SSO 강제 등의 403 도 잔량이 남아 있으므로, 본문으로 secondary rate limit 인지 확인 (아니면 본문을 되돌려 그대로 전달)
+        return response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .flatMap(body -> isSecondaryRateLimited(headers, body)
+                        ? Mono.<ClientResponse>error(new SecondaryRateLimitException(retryAfter(headers)))
+                        : Mono.just(response.mutate().body(body).build()));
+    }
+
+    Duration pacingDelay(Budget budget, Priority priority) {
+        return pacingDelay(budget, priority, System.currentTimeMillis());
+    }
+
+    /**
+     * reset 까지 남은 시간에 잔량이 고르게 분배되도록, 요청마다 (reset 까지 남은 시간 / 잔량) 간격의 다음 슬롯을 예약하고 그때까지의 대기 시간을 반환합니다.
+     * 동시에 들어온 요청도 서로 다른 슬롯을 받으므로 같은 시각에 몰려 나가지 않습니다.
+     */
+    Duration pacingDelay(Budget budget, Priority priority, long nowMillis) {
+        int limit = budget.limit.get();
+        int remaining = budget.remaining.get();
+        if (limit <= 0 || remaining < 0) {
+            return Duration.ZERO;
+        }
+
+        long millisToReset = budget.resetEpochSecond * 1000 - nowMillis;
+        if (millisToReset <= 0) {
+            return Duration.ZERO;
+        }
+
+        int reserve = (int) Math.ceil(limit * properties.getInteractiveReserveRatio());
+        int available = priority == Priority.BULK ? remaining - reserve : remaining;
+
+        if (available <= 0) {
+            return min(Duration.ofMillis(millisToReset), properties.getMaxPacingDelay());
+        }
+
+        double threshold = priority == Priority.BULK ? limit * properties.getPacingThresholdRatio() : reserve;
+        if (remaining >= threshold) {
+            return Duration.ZERO;
+        }
+
+        return reserveSlot(budget, millisToReset / available, nowMillis);
+    }
+
+    private Duration reserveSlot(Budget budget, long intervalMillis, long nowMillis) {
+        long maxDelayMillis = properties.getMaxPacingDelay().toMillis();
+        while (true) {
+            long reserved = budget.nextAllowedAt.get();
+            // 오래 전에 예약된 슬롯은 무시하고, 너무 먼 슬롯은 maxPacingDelay 로 당겨 예약이 끝없이 밀리지 않게 함
+            long slot = Math.max(nowMillis, Math.min(reserved, nowMillis + maxDelayMillis));
+            if (budget.nextAllowedAt.compareAndSet(reserved, slot + intervalMillis)) {
+                return Duration.ofMillis(slot - nowMillis);
+            }
+        }
+    }
+
+    private void update(Budget budget, HttpHeaders headers) {
+        String limit = headers.getFirst("X-RateLimit-Limit");
+        String remaining = headers.getFirst("X-RateLimit-Remaining");
+        String reset = headers.getFirst("X-RateLimit-Reset");
+
+        try {
+            if (limit != null) budget.limit.set(Integer.parseInt(limit));
+            if (remaining != null) budget.remaining.set(Integer.parseInt(remaining));
+            if (reset != null) budget.resetEpochSecond = Long.parseLong(reset);
+        } catch (NumberFormatException e) {
+            log.debug("[RateLimit] unparsable rate limit headers: {}", e.getMessage());
+        }
+    }
+
+    private static boolean isRateLimitStatus(ClientResponse response) {
+        return response.statusCode().isSameCodeAs(HttpStatus.FORBIDDEN)
+                || response.statusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    // Retry-After 가 있거나 본문 메시지가 secondary rate limit 인 경우 (잔량만으로는 권한 오류와 구분할 수 없음)
+    static boolean isSecondaryRateLimited(HttpHeaders headers, String body) {
+        return headers.containsKey(HttpHeaders.RETRY_AFTER)
+                || (body != null && body.toLowerCase(Locale.ROOT).contains("secondary rate limit"));
+    }
+
+    private static Duration retryAfter(HttpHeaders headers) {
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter != null) {
+            try {
+                return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+            } catch (NumberFormatException ignored) {
+                // HTTP-date 형식은 사용하지 않음
+            }
+        }
+        return Duration.ZERO;
+    }
+
+    /**
+     * 잔량이 0 인 응답의 reset 까지 남은 시간 (reset 시각의 초 단위 절삭을 고려해 1초 여유). 한도 소진이 아니면 null 입니다.
+     */
+    static Duration untilReset(HttpHeaders headers) {
+        String reset = headers.getFirst("X-RateLimit-Reset");
+        if (!"0".equals(headers.getFirst("X-RateLimit-Remaining")) || reset == null) {
+            return null;
+        }
+
+        try {
+            Duration untilReset = Duration.between(Instant.now(), Instant.ofEpochSecond(Long.parseLong(reset.trim())).plusSeconds(1));
+            return untilReset.isNegative() ? Duration.ZERO : untilReset;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Duration backoff(long retries, Duration retryAfter) {
+        long base = properties.getMinBackoff().toMillis() << Math.min(retries, 20);
+        long exponential = Math.min(base, properties.getMaxBackoff().toMillis());
+        // equal jitter: [exponential / 2, exponential)
+        long jittered = exponential / 2 + ThreadLocalRandom.current().nextLong(Math.max(1, exponential / 2));
+        return min(Duration.ofMillis(Math.max(jittered, retryAfter.toMillis())), properties.getMaxBackoff());
+    }
+
+    // 응답을 받은 토큰이 없으면 NaN
+    private double lowestRemaining(String resource) {
+        String suffix = "|" + resource;
+        OptionalInt lowest = budgets.asMap().entrySet().stream()
+                .filter(entry -> entry.getKey().endsWith(suffix))
+                .mapToInt(entry -> entry.getValue().remaining.get())
+                .filter(remaining -> remaining >= 0)
+                .min();
+        return lowest.isPresent() ? lowest.getAsInt() : Double.NaN;
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
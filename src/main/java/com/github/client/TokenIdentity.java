@@ -0,0 +1,30 @@
+package com.github.client;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 캐시 키 등에 토큰 원문 대신 사용할 인증 식별자.
+ */
+public final class TokenIdentity {
+
+    public static final String ANONYMOUS = "anonymous";
+
+    private TokenIdentity() {
+    }
+
+    public static String of(String authHeader) {
+        if (authHeader == null || authHeader.isBlank()) {
+            return ANONYMOUS;
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(authHeader.trim().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.github.cache.EncodedResponseCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class EncodingConfig implements WebFluxConfigurer {
+
+    private final GithubProperties properties;
+    private final EncodedResponseCache encodedResponses;
+
+    // Spring Boot 가 ObjectMapper 에 등록 (ObjectMapper 를 쓰는 EncodedResponseCache 보다 먼저 만들어지도록 static)
+    @Bean
+    @ConditionalOnProperty(prefix = "github.encoding", name = "blackbird", havingValue = "true", matchIfMissing = true)
+    public static Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        // 기본 Jackson 인코더보다 앞에서 캐시되는 응답 타입만 처리
+        if (properties.getEncoding().isEnabled()) {
+            configurer.customCodecs().register(new PreEncodedResponseWriter(encodedResponses, properties.getEncoding().isBinaryFormats()));
+        }
+    }
+}
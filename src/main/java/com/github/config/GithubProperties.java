@@ -0,0 +1,210 @@
+package com.github.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "github")
+public class GithubProperties {
+
+    private Api api = new Api();
+    private Http http = new Http();
+    private Pagination pagination = new Pagination();
+    private Cache cache = new Cache();
+    private ConditionalRequests conditionalRequests = new ConditionalRequests();
+    private SingleFlight singleFlight = new SingleFlight();
+    private RateLimit rateLimit = new RateLimit();
+    private Summary summary = new Summary();
+    private Batch batch = new Batch();
+    private Incremental incremental = new Incremental();
+    private Prewarm prewarm = new Prewarm();
+    private Snapshot snapshot = new Snapshot();
+    private PopularRepos popularRepos = new PopularRepos();
+    private Webhook webhook = new Webhook();
+    private Encoding encoding = new Encoding();
+
+    @Data
+    public static class Api {
+        // 테스트 시 Mock 서버를 가리키도록 변경 가능
+        private String baseUrl = "https://api.github.com";
+    }
+
+    @Data
+    public static class Http {
+        // 모든 GitHub 호출이 공유하는 커넥션 풀
+        private int maxConnections = 500;
+        // 커넥션을 기다리는 요청의 최대 개수와 대기 시간
+        private int pendingAcquireMaxCount = 5_000;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(45);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(10);
+        private Duration evictInBackground = Duration.ofSeconds(30);
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        // 응답 헤더를 받을 때까지의 최대 시간
+        private Duration responseTimeout = Duration.ofSeconds(30);
+        // Accept-Encoding: gzip 요청 및 응답 압축 해제
+        private boolean compression = true;
+        // https 대상이면 ALPN 으로 HTTP/2 를 협상 (불가하면 HTTP/1.1)
+        private boolean http2 = true;
+        // 한 번에 메모리로 읽는 응답 (JsonNode 등) 의 최대 크기
+        private DataSize maxInMemorySize = DataSize.ofMegabytes(16);
+        // reactor.netty.connection.provider.* 커넥션 풀 지표
+        private boolean poolMetrics = true;
+    }
+
+    @Data
+    public static class Pagination {
+        // GitHub REST API 가 허용하는 최대 페이지 크기
+        private int perPage = 100;
+        // 2 페이지 이후를 동시에 요청할 최대 개수
+        private int concurrency = 8;
+    }
+
+    @Data
+    public static class Cache {
+        private boolean enabled = true;
+        private Duration repoSummaryTtl = Duration.ofMinutes(5);
+        private Duration userProfileTtl = Duration.ofMinutes(10);
+        private Duration popularReposTtl = Duration.ofMinutes(10);
+        // 캐시별 최대 용량 (직렬화된 응답 크기 합계)
+        private long maxWeightBytes = 64L * 1024 * 1024;
+        // TTL 이 지난 뒤에도 마감 시간 초과 시 stale 응답으로 사용할 마지막 값의 보관 기간과 캐시별 최대 개수
+        private Duration staleRetention = Duration.ofHours(1);
+        private long staleMaxEntries = 10_000;
+    }
+
+    @Data
+    public static class ConditionalRequests {
+        private boolean enabled = true;
+        // ETag 검증용으로 보관하는 GitHub 응답 본문의 최대 용량
+        private long maxWeightBytes = 128L * 1024 * 1024;
+        // 이보다 큰 응답 본문은 저장하지 않음 (단건 리소스 / 개수 조회용 작은 페이지만 저장하고 목록 페이지는 그대로 스트리밍)
+        private long maxEntryBytes = 64L * 1024;
+    }
+
+    @Data
+    public static class SingleFlight {
+        // 동일 요청의 계산 결과를 기다리는 최대 시간
+        private Duration maxWait = Duration.ofSeconds(60);
+    }
+
+    @Data
+    public static class RateLimit {
+        private boolean enabled = true;
+        // 대량 조회(BULK) 요청이 사용하지 않고 대화형 요청 몫으로 남겨 두는 비율
+        private double interactiveReserveRatio = 0.1;
+        // 잔량이 이 비율 아래로 내려가면 BULK 요청 간격을 조절
+        private double pacingThresholdRatio = 0.5;
+        private Duration maxPacingDelay = Duration.ofSeconds(30);
+        // secondary rate limit 재시도
+        private int maxRetries = 3;
+        private Duration minBackoff = Duration.ofSeconds(1);
+        private Duration maxBackoff = Duration.ofSeconds(60);
+        // 한도를 소진(remaining=0)한 응답은 reset 까지 이 시간 이내일 때만 기다렸다가 재시도하고, 더 멀면 바로 실패
+        private Duration maxResetWait = Duration.ofSeconds(60);
+        // 잔량을 추적할 최대 토큰 / 리소스 수와, 요청이 없으면 추적을 멈추는 시간 (한도는 1시간마다 초기화됨)
+        private long maxTrackedBudgets = 10_000;
+        private Duration budgetRetention = Duration.ofHours(1);
+    }
+
+    @Data
+    public static class Summary {
+        // 저장소 요약 조회 방식: rest (REST API 크롤링) 또는 graphql (GraphQL 일괄 조회, 인증 필요)
+        private String backend = "rest";
+        // 요청별 응답 마감 시간 (X-Deadline-Ms 헤더로 변경 가능, 최대 maxDeadline)
+        private Duration deadline = Duration.ofSeconds(10);
+        private Duration maxDeadline = Duration.ofSeconds(60);
+    }
+
+    @Data
+    public static class Batch {
+        // 한 번의 일괄 요약 요청에 포함할 수 있는 최대 저장소 수
+        private int maxRepos = 200;
+        // 동시에 요약을 계산하는 최대 저장소 수
+        private int concurrency = 16;
+        // 일괄 요청 하나가 동시에 보내는 최대 GitHub 요청 수 (모든 저장소의 페이지 요청 합계)
+        private int upstreamConcurrency = 32;
+    }
+
+    @Data
+    public static class Incremental {
+        // 저장소별 집계 상태를 보관하고 since 이후 변경분만 다시 조회
+        private boolean enabled = true;
+        // 이슈 / PR 집계 상태 각각의 최대 크기 (저장소 합계, 번호별 압축 상태와 상위 후보 기준)
+        private long maxWeightBytes = 64L * 1024 * 1024;
+        // 웹훅으로 갱신 중인 저장소 정보를 보관할 최대 개수
+        private long maxRepos = 10_000;
+        // 마지막 조회 후 이 시간 동안 요청이 없으면 집계 상태 제거
+        private Duration retention = Duration.ofHours(24);
+        // since 를 조회 시작 시각보다 앞당겨 GitHub 와의 시계 오차를 흡수
+        private Duration sinceOverlap = Duration.ofMinutes(1);
+    }
+
+    @Data
+    public static class Prewarm {
+        private boolean enabled = true;
+        // 요청 빈도를 확인하고 만료 임박 항목을 다시 계산하는 주기
+        private Duration interval = Duration.ofMinutes(1);
+        // 한 주기에 다시 계산할 최대 키 수와 동시 계산 수
+        private int topN = 50;
+        private int workers = 4;
+        // TTL 의 이 비율 이상 지난 캐시 항목만 다시 계산
+        private double refreshAheadRatio = 0.8;
+        // 토큰의 rate limit 중 사전 계산에 사용할 수 있는 비율 (reset 창마다 사전 계산 요청 수가 한도 * 이 값에 이르면 멈춤)
+        private double rateLimitBudgetShare = 0.2;
+        // 주기마다 점수에 곱하는 감쇠 비율과 사전 계산 대상이 되는 최소 점수
+        private double decay = 0.5;
+        private double minScore = 2;
+        private int maxTrackedKeys = 10_000;
+        // 이 시간 동안 요청이 없는 키는 추적 중단
+        private Duration idleTimeout = Duration.ofHours(2);
+    }
+
+    @Data
+    public static class Snapshot {
+        private boolean enabled = true;
+        // 계산된 응답을 기록하는 append-only 로그 파일
+        private Path path = Path.of("data/response-snapshots.log");
+        // 이보다 오래된 스냅샷은 기동 시 무시하고 압축 시 삭제
+        private Duration retention = Duration.ofHours(1);
+        // 로그가 이 크기와 직전 압축 결과의 2배를 모두 넘으면 압축
+        private long compactionMinBytes = 16L * 1024 * 1024;
+        // 기록 대기열이 가득 차면 해당 스냅샷은 기록하지 않음
+        private int writeQueueCapacity = 10_000;
+    }
+
+    @Data
+    public static class PopularRepos {
+        // 별 개수 순 검색 API 로 상위 저장소만 조회 (실패하면 전체 저장소 목록에서 선택)
+        private boolean searchEnabled = true;
+    }
+
+    @Data
+    public static class Webhook {
+        private boolean enabled = false;
+        // GitHub 웹훅 설정의 secret (X-Hub-Signature-256 서명 검증)
+        private String secret = "";
+        // 마지막 웹훅 이후 이 시간 동안은 해당 저장소의 집계를 GitHub 조회 없이 사용
+        private Duration eventDrivenTtl = Duration.ofHours(1);
+        // 누락된 웹훅에 대비해 이 주기마다 한 번은 GitHub 에서 변경분을 다시 조회
+        private Duration resyncInterval = Duration.ofHours(1);
+    }
+
+    @Data
+    public static class Encoding {
+        // 응답 객체별로 인코딩한 바이트와 ETag 를 보관하여 같은 응답은 다시 직렬화하지 않음
+        private boolean enabled = true;
+        // 이보다 작은 응답은 Accept-Encoding: gzip 이어도 압축하지 않음
+        private int gzipMinBytes = 1024;
+        // Accept 헤더로 요청한 Smile(application/x-jackson-smile) / CBOR(application/cbor) 응답도 미리 인코딩하여 제공
+        private boolean binaryFormats = true;
+        // 인코딩을 보관할 최대 응답 객체 수 (응답 캐시에서 빠진 객체는 GC 시 함께 제거)
+        private long maxEntries = 10_000;
+        // 응답 캐시를 거치지 않는 직렬화에 Jackson Blackbird 모듈(LambdaMetafactory 기반 접근자) 사용
+        private boolean blackbird = true;
+    }
+}
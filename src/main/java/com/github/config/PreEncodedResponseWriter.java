@@ -0,0 +1,139 @@
+package com.github.config;
+
+import com.github.cache.EncodedResponseCache;
+import com.github.cache.EncodedResponseCache.Format;
+import com.github.cache.EncodedResponseCache.Representation;
+import com.github.dto.popularrepos.PopularRepoResponse;
+import com.github.dto.reposummary.RepoSummaryResponse;
+import com.github.dto.userprofilesummary.UserProfileResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 캐시되는 API 응답을 EncodedResponseCache 에 보관된 바이트로 복사 없이 씁니다.
+ * Accept 로 형식(JSON / Smile / CBOR), Accept-Encoding 으로 gzip 여부를 고르고, 표현별 강한 ETag 가 If-None-Match 와 같으면 304 로 응답합니다.
+ * binaryFormats 가 꺼져 있으면 Smile / CBOR 를 요청해도 기본 Jackson 인코더에 넘기지 않고 JSON 으로 응답합니다.
+ */
+class PreEncodedResponseWriter implements HttpMessageWriter<Object> {
+
+    private static final Set<Class<?>> TYPES = Set.of(RepoSummaryResponse.class, UserProfileResponse.class, PopularRepoResponse.class);
+
+    private final EncodedResponseCache encodedResponses;
+    private final boolean binaryFormats;
+    private final List<MediaType> mediaTypes;
+
+    PreEncodedResponseWriter(EncodedResponseCache encodedResponses, boolean binaryFormats) {
+        this.encodedResponses = encodedResponses;
+        this.binaryFormats = binaryFormats;
+        // Accept 가 없거나 */* 이면 첫 번째인 JSON 으로 응답
+        this.mediaTypes = binaryFormats
+                ? Arrays.stream(Format.values()).map(Format::mediaType).toList()
+                : List.of(Format.JSON.mediaType());
+    }
+
+    @Override
+    public List<MediaType> getWritableMediaTypes() {
+        return mediaTypes;
+    }
+
+    // 꺼져 있어도 Smile / CBOR 요청을 받아야 기본 인코더(Jackson2SmileEncoder 등)가 바이너리로 응답하지 않음
+    @Override
+    public boolean canWrite(ResolvableType elementType, MediaType mediaType) {
+        return TYPES.contains(elementType.toClass())
+                && (mediaType == null || Arrays.stream(Format.values()).anyMatch(format -> format.mediaType().isCompatibleWith(mediaType)));
+    }
+
+    @Override
+    public Mono<Void> write(Publisher<?> inputStream, ResolvableType elementType, MediaType mediaType,
+                            ReactiveHttpOutputMessage message, Map<String, Object> hints) {
+        return Mono.<Object>from(inputStream).flatMap(value -> {
+            Format format = format(mediaType);
+            Representation representation = encodedResponses.representation(value, format, false);
+            message.getHeaders().setContentType(format.mediaType());
+            message.getHeaders().setContentLength(representation.body().length);
+            return message.writeWith(Mono.just(message.bufferFactory().wrap(representation.body())));
+        });
+    }
+
+    @Override
+    public Mono<Void> write(Publisher<?> inputStream, ResolvableType actualType, ResolvableType elementType,
+                            MediaType mediaType, ServerHttpRequest request, ServerHttpResponse response,
+                            Map<String, Object> hints) {
+        return Mono.<Object>from(inputStream).flatMap(value -> {
+            Format format = format(mediaType);
+            Representation representation = encodedResponses.representation(value, format, acceptsGzip(request.getHeaders()));
+
+            HttpHeaders headers = response.getHeaders();
+            headers.setContentType(format.mediaType());
+            headers.setETag(representation.etag());
+            headers.setVary(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING));
+
+            if (isSafe(request.getMethod()) && matches(request.getHeaders().getIfNoneMatch(), representation.etag())) {
+                response.setStatusCode(HttpStatus.NOT_MODIFIED);
+                return response.setComplete();
+            }
+
+            if (representation.contentEncoding() != null) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, representation.contentEncoding());
+            }
+            headers.setContentLength(representation.body().length);
+            // 보관 중인 byte[] 를 감싸기만 하므로 요청마다 직렬화 / 복사하지 않음
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(representation.body())));
+        });
+    }
+
+    private Format format(MediaType mediaType) {
+        return binaryFormats ? Format.of(mediaType) : Format.JSON;
+    }
+
+    private static boolean isSafe(HttpMethod method) {
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+    }
+
+    // If-None-Match 는 약한 비교(W/ 무시)를 사용
+    static boolean matches(List<String> ifNoneMatch, String etag) {
+        for (String tag : ifNoneMatch) {
+            if ("*".equals(tag) || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // gzip 또는 * 이 q=0 없이 포함되어 있으면 true
+    static boolean acceptsGzip(HttpHeaders headers) {
+        for (String value : headers.getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+            for (String coding : value.split(",")) {
+                String[] parts = coding.split(";");
+                String name = parts[0].trim();
+                if (("gzip".equalsIgnoreCase(name) || "*".equals(name)) && !isRejected(parts)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRejected(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            if (parts[i].replace(" ", "").matches("[qQ]=0(\\.0{0,3})?")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,17 +1,86 @@
 package com.github.config;
 
+import com.github.client.ConditionalRequestFilter;
+import com.github.client.FetchLimiter;
+import com.github.client.GithubMetricsFilter;
+import com.github.client.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class WebClientConfig {
 
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider githubConnectionProvider(GithubProperties properties) {
+        GithubProperties.Http http = properties.getHttp();
+
+        return ConnectionProvider.builder("github")
+                .maxConnections(http.getMaxConnections())
+                .pendingAcquireMaxCount(http.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(http.getPendingAcquireTimeout())
+                .maxIdleTime(http.getMaxIdleTime())
+                .maxLifeTime(http.getMaxLifeTime())
+                .evictInBackground(http.getEvictInBackground())
+                .metrics(http.isPoolMetrics())
+                .build();
+    }
+
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
-                .baseUrl("https://api.github.com")
+    public RateLimitFilter rateLimitFilter(GithubProperties properties, MeterRegistry meterRegistry) {
+        return new RateLimitFilter(properties.getRateLimit(), meterRegistry);
+    }
+
+    @Bean
+    public WebClient webClient(GithubProperties properties, ConnectionProvider githubConnectionProvider,
+                               RateLimitFilter rateLimitFilter, MeterRegistry meterRegistry) {
+        ExchangeStrategies strategies = ExchangeStrategies.builder()
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) properties.getHttp().getMaxInMemorySize().toBytes()))
                 .build();
+
+        var builder = WebClient.builder()
+                .baseUrl(properties.getApi().getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient(properties, githubConnectionProvider)))
+                .exchangeStrategies(strategies);
+
+        // 먼저 등록한 filter 가 바깥쪽에서 실행: 동시 요청 한도 -> rate limit 조절 -> 조건부 요청 -> 계측
+        builder.filter(FetchLimiter.filter());
+
+        if (properties.getRateLimit().isEnabled()) {
+            builder.filter(rateLimitFilter);
+        }
+
+        if (properties.getConditionalRequests().isEnabled()) {
+            GithubProperties.ConditionalRequests conditional = properties.getConditionalRequests();
+            builder.filter(new ConditionalRequestFilter(conditional.getMaxWeightBytes(), conditional.getMaxEntryBytes(), strategies));
+        }
+
+        builder.filter(new GithubMetricsFilter(meterRegistry));
+
+        return builder.build();
+    }
+
+    private HttpClient httpClient(GithubProperties properties, ConnectionProvider connectionProvider) {
+        GithubProperties.Http http = properties.getHttp();
+
+        HttpClient client = HttpClient.create(connectionProvider)
+                .compress(http.isCompression())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) http.getConnectTimeout().toMillis())
+                .responseTimeout(http.getResponseTimeout());
+
+        // HTTP/2 는 TLS(ALPN) 에서만 협상하므로 Mock 서버 등 http 대상에는 HTTP/1.1 사용
+        if (http.isHttp2() && properties.getApi().getBaseUrl().startsWith("https://")) {
+            client = client.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+
+        return client;
     }
 
-}
\ No newline at end of file
+}
@@ -1,6 +1,8 @@
 package com.github.controller;
 
 import com.github.dto.popularrepos.PopularRepoResponse;
+import com.github.dto.reposummary.RepoSummaryBatchItem;
+import com.github.dto.reposummary.RepoSummaryBatchRequest;
 import com.github.dto.reposummary.RepoSummaryResponse;
 import com.github.dto.userprofilesummary.UserProfileResponse;
 import com.github.service.PopularReposService;
@@ -11,8 +13,11 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @RestController
@@ -26,26 +31,34 @@ public class GithubApiController {
 
     @GetMapping("/repos/{owner}/{repo}/summary")
     @Tag(name = "저장소 활동 API", description = "특정 GitHub 저장소의 활동 통계를 요약 제공")
-    public RepoSummaryResponse getRepoSummary(@PathVariable String owner,
-                                              @PathVariable String repo,
-                                              @Parameter(hidden = true) @RequestHeader(name = "Authorization", required = false) String authHeader) {
-        log.info("[Request Header] Authorization: {}", authHeader);
-        return repoService.getRepoSummary(owner, repo, authHeader);
+    public Mono<RepoSummaryResponse> getRepoSummary(@PathVariable String owner,
+                                                    @PathVariable String repo,
+                                                    @Parameter(description = "응답 마감 시간(ms). 초과하면 이전 요약(stale) 또는 완료된 섹션만 응답")
+                                                    @RequestHeader(name = "X-Deadline-Ms", required = false) Long deadlineMs,
+                                                    @Parameter(hidden = true) @RequestHeader(name = "Authorization", required = false) String authHeader) {
+        return repoService.getRepoSummary(owner, repo, authHeader, deadlineMs);
+    }
+
+    @PostMapping(value = "/repos/summaries", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @Tag(name = "저장소 활동 API", description = "여러 GitHub 저장소의 활동 통계를 완료되는 순서대로 NDJSON 또는 SSE 로 제공")
+    public Flux<RepoSummaryBatchItem> getRepoSummaries(@RequestBody RepoSummaryBatchRequest request,
+                                                       @Parameter(hidden = true) @RequestHeader(name = "Authorization", required = false) String authHeader) {
+        return repoService.getRepoSummaries(request.getRepos(), authHeader);
     }
 
     @GetMapping("/users/{username}/profile-summary")
     @Tag(name = "사용자 프로필 분석 API", description = "특정 GitHub 사용자의 공개 활동 통계를 요약 제공")
-    public ResponseEntity<UserProfileResponse> getUserProfileSummary(@PathVariable String username,
-                                                                     @Parameter(hidden = true) @RequestHeader(name = "Authorization", required = false) String authHeader) {
-        UserProfileResponse profileSummary = userService.getUserProfileSummary(username, authHeader);
-        return ResponseEntity.ok(profileSummary);
+    public Mono<ResponseEntity<UserProfileResponse>> getUserProfileSummary(@PathVariable String username,
+                                                                           @Parameter(hidden = true) @RequestHeader(name = "Authorization", required = false) String authHeader) {
+        return userService.getUserProfileSummary(username, authHeader)
+                .map(ResponseEntity::ok);
     }
 
     @GetMapping("/popular-repo")
     @Tag(name = "인기 저장소 API", description = "특정 조직이 소유한 공개 저장소 중, 별표(stars) 수가 가장 많은 상위 N 개 저장소 목록 제공")
-    public PopularRepoResponse getPopularRepos(@RequestParam String owner,
-                                               @RequestParam(required = false, defaultValue = "3") int limit,
-                                               @Parameter(hidden = true) @RequestHeader(name = "Authorization", required = false) String authHeader) {
+    public Mono<PopularRepoResponse> getPopularRepos(@RequestParam String owner,
+                                                     @RequestParam(required = false, defaultValue = "3") int limit,
+                                                     @Parameter(hidden = true) @RequestHeader(name = "Authorization", required = false) String authHeader) {
         return popularRepoService.getPopularRepos(owner, limit, authHeader);
     }
 }
@@ -0,0 +1,37 @@
+package com.github.controller;
+
+import com.github.service.GithubWebhookService;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/webhooks")
+public class GithubWebhookController {
+
+    private final GithubWebhookService webhookService;
+
+    @PostMapping("/github")
+    @Tag(name = "웹훅 API", description = "GitHub 웹훅(Content type: application/json)으로 저장소 요약 집계를 갱신")
+    public Mono<ResponseEntity<Void>> receive(@RequestHeader(name = "X-GitHub-Event", required = false) String event,
+                                              @RequestHeader(name = "X-GitHub-Delivery", required = false) String deliveryId,
+                                              @RequestHeader(name = "X-Hub-Signature-256", required = false) String signature,
+                                              @RequestBody(required = false) byte[] body) {
+        return Mono.fromCallable(() -> webhookService.handle(event, deliveryId, signature, body))
+                .map(outcome -> ResponseEntity.status(status(outcome)).build());
+    }
+
+    private static HttpStatus status(GithubWebhookService.Outcome outcome) {
+        return switch (outcome) {
+            case APPLIED, IGNORED -> HttpStatus.NO_CONTENT;
+            case INVALID_SIGNATURE -> HttpStatus.UNAUTHORIZED;
+            case DISABLED -> HttpStatus.NOT_FOUND;
+            case MALFORMED -> HttpStatus.BAD_REQUEST;
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.dto.popularrepos;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class Org {
+    @JsonProperty("login")
+    private String login;
+
+    @JsonProperty("public_repos")
+    private int publicRepos;
+}
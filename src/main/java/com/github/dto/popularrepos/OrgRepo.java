@@ -0,0 +1,24 @@
+package com.github.dto.popularrepos;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OrgRepo {
+    @JsonProperty("name")
+    private String name;
+
+    @JsonProperty("description")
+    private String description;
+
+    @JsonProperty("stargazers_count")
+    private int stargazersCount;
+
+    @JsonProperty("forks_count")
+    private int forksCount;
+
+    @JsonProperty("language")
+    private String language;
+}
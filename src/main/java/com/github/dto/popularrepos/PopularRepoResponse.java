@@ -1,13 +1,17 @@
 package com.github.dto.popularrepos;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class PopularRepoResponse {
     @JsonProperty("target_owner")
     private String targetOwner;
@@ -20,6 +24,8 @@ public class PopularRepoResponse {
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class PopularRepo {
         @JsonProperty("name")
         private String name;
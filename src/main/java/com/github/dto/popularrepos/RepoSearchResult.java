@@ -0,0 +1,20 @@
+package com.github.dto.popularrepos;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RepoSearchResult {
+    @JsonProperty("total_count")
+    private int totalCount;
+
+    @JsonProperty("incomplete_results")
+    private boolean incompleteResults;
+
+    @JsonProperty("items")
+    private List<OrgRepo> items;
+}
@@ -0,0 +1,31 @@
+package com.github.dto.reposummary;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CommitDetail {
+    @JsonProperty("commit")
+    private Commit commit;
+
+    public String committerDate() {
+        return commit != null && commit.getCommitter() != null ? commit.getCommitter().getDate() : null;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Commit {
+        @JsonProperty("committer")
+        private Committer committer;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Committer {
+        // ISO 8601 형식
+        @JsonProperty("date")
+        private String date;
+    }
+}
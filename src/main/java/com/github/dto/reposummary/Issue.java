@@ -0,0 +1,42 @@
+package com.github.dto.reposummary;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class Issue {
+    @JsonProperty("number")
+    private int number;
+
+    @JsonProperty("title")
+    private String title;
+
+    @JsonProperty("state")
+    private String state;
+
+    @JsonProperty("comments")
+    private int comments;
+
+    @JsonProperty("created_at")
+    private String createdAt;
+
+    @JsonProperty("closed_at")
+    private String closedAt;
+
+    @JsonProperty("updated_at")
+    private String updatedAt;
+
+    // 이슈 API 는 PR 도 함께 반환하므로 존재 여부만 확인 (하위 필드는 파싱하지 않음)
+    @JsonProperty("pull_request")
+    private PullRequestLink pullRequest;
+
+    public boolean hasPullRequestLink() {
+        return pullRequest != null;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class PullRequestLink {
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.dto.reposummary;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PullRequest {
+    @JsonProperty("number")
+    private int number;
+
+    @JsonProperty("state")
+    private String state;
+
+    @JsonProperty("created_at")
+    private String createdAt;
+
+    @JsonProperty("merged_at")
+    private String mergedAt;
+
+    @JsonProperty("updated_at")
+    private String updatedAt;
+
+    @JsonProperty("requested_reviewers")
+    private List<Reviewer> requestedReviewers;
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Reviewer {
+        @JsonProperty("login")
+        private String login;
+    }
+}
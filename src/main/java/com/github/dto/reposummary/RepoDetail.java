@@ -0,0 +1,24 @@
+package com.github.dto.reposummary;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RepoDetail {
+    @JsonProperty("name")
+    private String name;
+
+    @JsonProperty("description")
+    private String description;
+
+    @JsonProperty("forks_count")
+    private int forksCount;
+
+    @JsonProperty("default_branch")
+    private String defaultBranch;
+
+    @JsonProperty("size")
+    private int size;
+}
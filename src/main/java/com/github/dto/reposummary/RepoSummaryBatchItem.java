@@ -0,0 +1,24 @@
+package com.github.dto.reposummary;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 일괄 요약 응답의 한 줄. 저장소별로 summary 또는 error 중 하나만 채워집니다.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RepoSummaryBatchItem {
+
+    @JsonProperty("owner")
+    private String owner;
+    @JsonProperty("repo")
+    private String repo;
+    @JsonProperty("summary")
+    private RepoSummaryResponse summary;
+    @JsonProperty("error")
+    private String error;
+}
@@ -0,0 +1,27 @@
+package com.github.dto.reposummary;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepoSummaryBatchRequest {
+
+    @JsonProperty("repos")
+    private List<RepoRef> repos;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RepoRef {
+        @JsonProperty("owner")
+        private String owner;
+        @JsonProperty("repo")
+        private String repo;
+    }
+}
@@ -1,11 +1,18 @@
 package com.github.dto.reposummary;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
 public class RepoSummaryResponse {
 
     @JsonProperty("owner")
@@ -20,4 +27,12 @@ public class RepoSummaryResponse {
     private PullRequestStats pullRequestStats;
     @JsonProperty("last_updated_utc")
     private String lastUpdatedUtc;
+    // 마감 시간 안에 계산하지 못해 이전 결과(last_updated_utc 시점)를 응답한 경우 true
+    @JsonProperty("stale")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean stale;
+    // 마감 시간 안에 계산하지 못해 비어 있는 섹션 (repo_info, issue_stats, pull_request_stats)
+    @JsonProperty("incomplete_sections")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> incompleteSections;
 }
\ No newline at end of file
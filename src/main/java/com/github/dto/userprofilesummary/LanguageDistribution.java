@@ -3,8 +3,10 @@ package com.github.dto.userprofilesummary;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 @AllArgsConstructor
 public class LanguageDistribution {
     @JsonProperty("language")
@@ -1,9 +1,11 @@
 package com.github.dto.userprofilesummary;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
 @Data
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class Repo {
     @JsonProperty("language")
     private String language;
@@ -27,9 +27,9 @@ public class GlobalExceptionHandler {
             message = "Unauthorized: 유효하지 않은 인증 정보입니다";
         } else if (status == HttpStatus.NOT_FOUND) {
             message = "해당 정보를 찾을 수 없습니다";
-//        } else if (status == HttpStatus.FORBIDDEN && e.getResponseBodyAsString().contains("rate limit")) {
-//            status = HttpStatus.TOO_MANY_REQUESTS;
-//            message = "GitHub API rate limit 초과";
+        } else if (status == HttpStatus.TOO_MANY_REQUESTS
+                || (status == HttpStatus.FORBIDDEN && e.getResponseBodyAsString().contains("rate limit"))) {
+            message = "GitHub API rate limit 초과";
         } else if (status == HttpStatus.FORBIDDEN) {
             message = "Forbidden: 권한 부족 또는 일시적인 제한";
         } else {
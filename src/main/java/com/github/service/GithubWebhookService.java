@@ -0,0 +1,223 @@
+package com.github.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.cache.ResponseCache;
+import com.github.config.GithubProperties;
+import com.github.dto.reposummary.Issue;
+import com.github.dto.reposummary.PullRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * GitHub 웹훅 이벤트를 검증하고, 보관 중인 저장소 집계에 변경분을 반영합니다.
+ * issues / issue_comment / pull_request 는 이슈 / PR 집계를 직접 갱신하고, push / create / delete / repository 는 저장소 정보를 다시 조회하도록 무효화합니다.
+ * 집계가 없는(한 번도 요약을 계산하지 않은) 저장소의 이벤트는 반영할 대상이 없으므로 건너뛰며, 이벤트 기반 저장소로 표시하지도 않습니다.
+ */
+@Slf4j
+@Service
+public class GithubWebhookService {
+
+    private static final String SIGNATURE_PREFIX = "sha256=";
+    private static final Set<String> HANDLED_EVENTS = Set.of("ping", "issues", "issue_comment", "pull_request", "push", "create", "delete", "repository");
+
+    public enum Outcome {
+        APPLIED, IGNORED, INVALID_SIGNATURE, DISABLED, MALFORMED
+    }
+
+    private final RepoAggregateStore aggregateStore;
+    private final ResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final GithubProperties.Webhook properties;
+
+    public GithubWebhookService(RepoAggregateStore aggregateStore, ResponseCache responseCache, ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry, GithubProperties properties) {
+        this.aggregateStore = aggregateStore;
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties.getWebhook();
+    }
+
+    public Outcome handle(String event, String deliveryId, String signature, byte[] body) {
+        Outcome outcome = process(event, signature, body);
+        log.debug("[Webhook] {} delivery={} -> {}", event, deliveryId, outcome);
+        // 헤더 값을 그대로 태그로 쓰지 않도록 처리하지 않는 이벤트는 other 로 집계
+        String eventTag = event != null && HANDLED_EVENTS.contains(event) ? event : "other";
+        meterRegistry.counter("github.webhook.events", "event", eventTag, "outcome", outcome.name()).increment();
+        return outcome;
+    }
+
+    private Outcome process(String event, String signature, byte[] body) {
+        if (!properties.isEnabled()) {
+            return Outcome.DISABLED;
+        }
+        if (body == null || !hasValidSignature(body, signature)) {
+            return Outcome.INVALID_SIGNATURE;
+        }
+        if (event == null) {
+            return Outcome.MALFORMED;
+        }
+
+        JsonNode payload;
+        try {
+            payload = objectMapper.readTree(body);
+        } catch (Exception e) {
+            log.warn("[Webhook] Unreadable {} payload: {}", event, e.getMessage());
+            return Outcome.MALFORMED;
+        }
+
+        String owner = payload.path("repository").path("owner").path("login").asText(null);
+        String repo = payload.path("repository").path("name").asText(null);
+        if (owner == null || repo == null) {
+            return "ping".equals(event) ? Outcome.APPLIED : Outcome.IGNORED;
+        }
+
+        try {
+            return switch (event) {
+                case "issues" -> onIssue(owner, repo, payload);
+                case "issue_comment" -> onIssueComment(owner, repo, payload);
+                case "pull_request" -> onPullRequest(owner, repo, payload);
+                case "push" -> onPush(owner, repo, payload);
+                case "create", "delete" -> onBranch(owner, repo, payload);
+                case "repository" -> onRepository(owner, repo, payload);
+                default -> Outcome.IGNORED;
+            };
+        } catch (JsonProcessingException e) {
+            log.warn("[Webhook] Malformed {} payload for {}/{}: {}", event, owner, repo, e.getMessage());
+            return Outcome.MALFORMED;
+        }
+    }
+
+    private Outcome onIssue(String owner, String repo, JsonNode payload) throws JsonProcessingException {
+        String action = payload.path("action").asText();
+        Issue issue = objectMapper.treeToValue(payload.path("issue"), Issue.class);
+        if (issue == null) {
+            return Outcome.MALFORMED;
+        }
+
+        if ("deleted".equals(action) || "transferred".equals(action)) {
+            aggregateStore.updateIssues(owner, repo, stats -> stats.remove(issue.getNumber()));
+        } else {
+            aggregateStore.updateIssues(owner, repo, stats -> stats.accept(issue));
+        }
+        return applied(owner, repo);
+    }
+
+    // 댓글 추가 / 수정 / 삭제 모두 payload 의 이슈에 바뀐 댓글 수와 updated_at 이 담겨 있음 (PR 댓글은 accept 에서 제외)
+    private Outcome onIssueComment(String owner, String repo, JsonNode payload) throws JsonProcessingException {
+        Issue issue = objectMapper.treeToValue(payload.path("issue"), Issue.class);
+        if (issue == null) {
+            return Outcome.MALFORMED;
+        }
+
+        aggregateStore.updateIssues(owner, repo, stats -> stats.accept(issue));
+        return applied(owner, repo);
+    }
+
+    private Outcome onPullRequest(String owner, String repo, JsonNode payload) throws JsonProcessingException {
+        PullRequest pullRequest = objectMapper.treeToValue(payload.path("pull_request"), PullRequest.class);
+        if (pullRequest == null) {
+            return Outcome.MALFORMED;
+        }
+        aggregateStore.updatePullRequests(owner, repo, stats -> stats.accept(pullRequest));
+        return applied(owner, repo);
+    }
+
+    // 기본 브랜치의 커밋 수와 최근 커밋 시각이 바뀜 (강제 push 도 있으므로 개수를 더하지 않고 다시 조회)
+    private Outcome onPush(String owner, String repo, JsonNode payload) {
+        String defaultBranch = payload.path("repository").path("default_branch").asText();
+        if (!("refs/heads/" + defaultBranch).equals(payload.path("ref").asText())) {
+            return Outcome.IGNORED;
+        }
+
+        return repoInfoChanged(owner, repo);
+    }
+
+    // 브랜치 수가 바뀜 (태그 생성 / 삭제는 영향 없음)
+    private Outcome onBranch(String owner, String repo, JsonNode payload) {
+        if (!"branch".equals(payload.path("ref_type").asText())) {
+            return Outcome.IGNORED;
+        }
+
+        return repoInfoChanged(owner, repo);
+    }
+
+    private Outcome onRepository(String owner, String repo, JsonNode payload) {
+        switch (payload.path("action").asText()) {
+            case "deleted" -> forget(owner, repo);
+            // repository.owner 는 이미 새 소유자이므로 이전 소유자의 집계를 제거
+            case "transferred" -> forget(previousOwner(payload, owner), repo);
+            case "renamed" -> forget(owner, payload.path("changes").path("repository").path("name").path("from").asText(repo));
+            default -> {
+                return repoInfoChanged(owner, repo);
+            }
+        }
+        return Outcome.APPLIED;
+    }
+
+    private static String previousOwner(JsonNode payload, String owner) {
+        JsonNode from = payload.path("changes").path("owner").path("from");
+        String previous = from.path("user").path("login").asText(from.path("organization").path("login").asText());
+        return previous.isEmpty() ? owner : previous;
+    }
+
+    // 무효화한 뒤에는 보관 중이던 저장소 정보가 사라지므로 무효화 전에 집계 보관 여부를 확인
+    private Outcome repoInfoChanged(String owner, String repo) {
+        boolean tracked = aggregateStore.contains(owner, repo);
+        aggregateStore.invalidateRepoInfo(owner, repo);
+        return applied(owner, repo, tracked);
+    }
+
+    private Outcome applied(String owner, String repo) {
+        return applied(owner, repo, aggregateStore.contains(owner, repo));
+    }
+
+    private Outcome applied(String owner, String repo, boolean tracked) {
+        // 다음 요청은 갱신된 집계로 다시 계산
+        responseCache.invalidate(ResponseCache.REPO_SUMMARY, ResponseCache.keyPrefix(owner, repo));
+        if (!tracked) {
+            return Outcome.IGNORED;
+        }
+
+        aggregateStore.markEventDriven(owner, repo);
+        return Outcome.APPLIED;
+    }
+
+    private void forget(String owner, String repo) {
+        aggregateStore.remove(owner, repo);
+        responseCache.invalidate(ResponseCache.REPO_SUMMARY, ResponseCache.keyPrefix(owner, repo));
+    }
+
+    private boolean hasValidSignature(byte[] body, String signature) {
+        if (properties.getSecret().isBlank() || signature == null || !signature.startsWith(SIGNATURE_PREFIX)) {
+            return false;
+        }
+
+        byte[] actual;
+        try {
+            actual = HexFormat.of().parseHex(signature.substring(SIGNATURE_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(properties.getSecret().getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return MessageDigest.isEqual(mac.doFinal(body), actual);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
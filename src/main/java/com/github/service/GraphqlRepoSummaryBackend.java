@@ -0,0 +1,238 @@
+package com.github.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.client.RateLimitFilter;
+import com.github.config.GithubProperties;
+import com.github.dto.reposummary.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * GraphQL API 로 저장소 정보와 브랜치/커밋 수(totalCount)를 한 번에 조회하고,
+ * 이슈와 PR 은 필요한 필드만 커서 기반으로 페이지 당 최대 100건씩 조회합니다.
+ * GitHub GraphQL API 는 인증이 필수이므로 Authorization 헤더가 없으면 401 이 반환됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "github.summary", name = "backend", havingValue = "graphql")
+public class GraphqlRepoSummaryBackend implements RepoSummaryBackend {
+
+    // GraphQL connection 의 first 최대값
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_REVIEW_REQUESTS = 20;
+
+    static final String REPO_INFO_QUERY = """
+            query RepoInfo($owner: String!, $repo: String!) {
+              repository(owner: $owner, name: $repo) {
+                name
+                description
+                forkCount
+                diskUsage
+                refs(refPrefix: "refs/heads/") { totalCount }
+                defaultBranchRef {
+                  name
+                  target {
+                    ... on Commit {
+                      committedDate
+                      history { totalCount }
+                    }
+                  }
+                }
+              }
+            }
+            """;
+
+    static final String ISSUES_QUERY = """
+            query Issues($owner: String!, $repo: String!, $pageSize: Int!, $after: String) {
+              repository(owner: $owner, name: $repo) {
+                issues(first: $pageSize, after: $after) {
+                  pageInfo { hasNextPage endCursor }
+                  nodes { number title state createdAt closedAt comments { totalCount } }
+                }
+              }
+            }
+            """;
+
+    static final String PULL_REQUESTS_QUERY = """
+            query PullRequests($owner: String!, $repo: String!, $pageSize: Int!, $after: String) {
+              repository(owner: $owner, name: $repo) {
+                pullRequests(first: $pageSize, after: $after) {
+                  pageInfo { hasNextPage endCursor }
+                  nodes {
+                    number state createdAt mergedAt
+                    reviewRequests(first: %d) { nodes { requestedReviewer { ... on User { login } } } }
+                  }
+                }
+              }
+            }
+            """.formatted(MAX_REVIEW_REQUESTS);
+
+    private final WebClient webClient;
+    private final GithubProperties properties;
+
+    @Override
+    public Mono<RepoInfo> fetchRepoInfo(String owner, String repo, String authHeader) {
+        Map<String, Object> variables = Map.of("owner", owner, "repo", repo);
+
+        // 쿼리 한 번이 저장소 정보 전체이므로 구간 시간은 RepoSummaryService 의 repo_info 로만 기록
+        return execute(REPO_INFO_QUERY, variables, RateLimitFilter.Priority.INTERACTIVE, authHeader)
+                .map(data -> {
+                    JsonNode repository = data.path("repository");
+                    JsonNode defaultBranch = repository.path("defaultBranchRef");
+                    JsonNode head = defaultBranch.path("target");
+
+                    return RepoInfo.builder()
+                            .name(repository.path("name").asText(null))
+                            .description(repository.path("description").asText(null))
+                            .forks(repository.path("forkCount").asInt())
+                            .defaultBranch(defaultBranch.path("name").asText(null))
+                            .size(repository.path("diskUsage").asInt())
+                            .totalBranches(repository.path("refs").path("totalCount").asInt())
+                            .totalCommits(head.path("history").path("totalCount").asInt())
+                            .latestCommitDateUtc(head.path("committedDate").asText(""))
+                            .build();
+                });
+    }
+
+    @Override
+    public Mono<IssueStats> fetchIssueStats(String owner, String repo, String authHeader) {
+        log.debug("Fetching issues for {}/{} via GraphQL", owner, repo);
+
+        return nodes(ISSUES_QUERY, "issues", owner, repo, authHeader)
+                .map(GraphqlRepoSummaryBackend::toIssue)
+                .reduceWith(IssueStatsAggregator::new, IssueStatsAggregator::accept)
+                .map(IssueStatsAggregator::toIssueStats);
+    }
+
+    @Override
+    public Mono<PullRequestStats> fetchPullRequestStats(String owner, String repo, String authHeader) {
+        log.debug("Fetching pull requests for repo: {}/{} via GraphQL", owner, repo);
+
+        return nodes(PULL_REQUESTS_QUERY, "pullRequests", owner, repo, authHeader)
+                .map(GraphqlRepoSummaryBackend::toPullRequest)
+                .reduceWith(PullRequestStatsAggregator::new, PullRequestStatsAggregator::accept)
+                .map(PullRequestStatsAggregator::toPullRequestStats);
+    }
+
+    /**
+     * 커서(endCursor)로 다음 페이지를 이어서 요청하며 connection 의 nodes 를 순서대로 내보냅니다.
+     */
+    private Flux<JsonNode> nodes(String query, String connection, String owner, String repo, String authHeader) {
+        int pageSize = Math.min(properties.getPagination().getPerPage(), MAX_PAGE_SIZE);
+
+        return page(query, connection, owner, repo, pageSize, null, authHeader)
+                .expand(current -> {
+                    JsonNode pageInfo = current.path("pageInfo");
+                    if (!pageInfo.path("hasNextPage").asBoolean()) {
+                        return Mono.empty();
+                    }
+                    return page(query, connection, owner, repo, pageSize, pageInfo.path("endCursor").asText(), authHeader);
+                })
+                .flatMapIterable(current -> current.path("nodes"));
+    }
+
+    private Mono<JsonNode> page(String query, String connection, String owner, String repo, int pageSize,
+                                String after, String authHeader) {
+        // after 가 null 일 수 있으므로 Map.of 대신 HashMap 사용
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("owner", owner);
+        variables.put("repo", repo);
+        variables.put("pageSize", pageSize);
+        variables.put("after", after);
+
+        // 2 페이지 이후는 REST 페이지네이션과 마찬가지로 대량 조회로 분류
+        RateLimitFilter.Priority priority = after == null ? RateLimitFilter.Priority.INTERACTIVE : RateLimitFilter.Priority.BULK;
+
+        return execute(query, variables, priority, authHeader)
+                .map(data -> data.path("repository").path(connection));
+    }
+
+    private Mono<JsonNode> execute(String query, Map<String, Object> variables, RateLimitFilter.Priority priority,
+                                   String authHeader) {
+        WebClient.RequestBodySpec request = webClient.post()
+                .uri("/graphql")
+                .attribute(RateLimitFilter.PRIORITY_ATTRIBUTE, priority);
+
+        if (authHeader != null && !authHeader.isBlank()) {
+            request = request.header(HttpHeaders.AUTHORIZATION, authHeader);
+        }
+
+        return request.bodyValue(Map.of("query", query, "variables", variables))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .flatMap(response -> {
+                    JsonNode errors = response.path("errors");
+                    if (errors.isArray() && !errors.isEmpty()) {
+                        return Mono.error(toException(errors));
+                    }
+                    return Mono.just(response.path("data"));
+                });
+    }
+
+    /**
+     * GraphQL 은 오류도 200 으로 응답하므로, 오류 유형을 HTTP 상태로 바꿔 REST 와 같은 방식으로 처리되게 합니다.
+     */
+    private static WebClientResponseException toException(JsonNode errors) {
+        HttpStatus status = switch (errors.path(0).path("type").asText("")) {
+            case "NOT_FOUND" -> HttpStatus.NOT_FOUND;
+            case "RATE_LIMITED" -> HttpStatus.TOO_MANY_REQUESTS;
+            case "FORBIDDEN" -> HttpStatus.FORBIDDEN;
+            default -> HttpStatus.BAD_GATEWAY;
+        };
+
+        return WebClientResponseException.create(status, status.getReasonPhrase(), HttpHeaders.EMPTY,
+                errors.toString().getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, null);
+    }
+
+    // REST 응답과 같은 형태로 변환하여 동일한 집계 로직을 사용
+    private static Issue toIssue(JsonNode node) {
+        Issue issue = new Issue();
+        issue.setNumber(node.path("number").asInt());
+        issue.setTitle(node.path("title").asText(null));
+        issue.setState(node.path("state").asText("").toLowerCase(Locale.ROOT));
+        issue.setComments(node.path("comments").path("totalCount").asInt());
+        issue.setCreatedAt(node.path("createdAt").asText(null));
+        issue.setClosedAt(node.path("closedAt").asText(null));
+        return issue;
+    }
+
+    private static PullRequest toPullRequest(JsonNode node) {
+        // GraphQL 의 MERGED 는 REST 에서 closed 로 표시됨
+        String state = node.path("state").asText("");
+
+        List<PullRequest.Reviewer> reviewers = new ArrayList<>();
+        for (JsonNode request : node.path("reviewRequests").path("nodes")) {
+            // 팀 리뷰 요청은 login 이 없으며 REST 의 requested_reviewers 에도 포함되지 않음
+            JsonNode login = request.path("requestedReviewer").path("login");
+            if (login.isTextual()) {
+                PullRequest.Reviewer reviewer = new PullRequest.Reviewer();
+                reviewer.setLogin(login.asText());
+                reviewers.add(reviewer);
+            }
+        }
+
+        PullRequest pr = new PullRequest();
+        pr.setNumber(node.path("number").asInt());
+        pr.setState("OPEN".equals(state) ? "open" : "closed");
+        pr.setCreatedAt(node.path("createdAt").asText(null));
+        pr.setMergedAt(node.path("mergedAt").asText(null));
+        pr.setRequestedReviewers(reviewers);
+        return pr;
+    }
+}
@@ -0,0 +1,159 @@
+package com.github.service;
+
+import com.github.dto.reposummary.Issue;
+import com.github.dto.reposummary.IssueStats;
+import com.github.dto.reposummary.TopCommentedIssue;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * 이슈 번호별로 상태 / 종료 시간 / 수정 시각만 long 하나로 압축해 보관하여, since 로 조회한 변경분만 반영(이전 기여분 차감 후 재집계)할 수 있게 합니다.
+ * 열림 -> 닫힘처럼 상태가 바뀐 이슈도 같은 번호로 교체되므로 중복 집계되지 않습니다.
+ * 댓글 많은 이슈는 제목과 함께 TOP_COMMENTED_CANDIDATES 개의 후보만 보관합니다. 후보가 줄어 후보 밖 이슈가 상위에 들 수 있게 되면
+ * needsFullCrawl 이 true 가 되며, 이때는 전체 목록을 다시 순회하여 새로 집계해야 합니다.
+ * 웹훅처럼 순서가 보장되지 않는 입력도 받으므로, 보관 중인 상태보다 updated_at 이 이전인 이슈는 무시합니다.
+ */
+class IncrementalIssueStats {
+
+    static final int TOP_COMMENTED_CANDIDATES = IssueStatsAggregator.TOP_COMMENTED * 4;
+
+    private static final long MISSING = -1;
+    private static final int OPEN = 1;
+    private static final int CLOSED = 2;
+    private static final long MAX_CLOSE_HOURS = (1L << 30) - 2;
+    // 후보 한 개의 대략적인 크기 (제목 포함)
+    private static final long CANDIDATE_BYTES = 160;
+
+    private record Candidate(int number, String title, int comments, long score) {
+    }
+
+    // 이슈 번호 -> [수정 시각(초, 0 = 알 수 없음) 32 bit][종료 시간 + 1 (0 = 미집계) 30 bit][상태 2 bit]
+    private final IntLongHashMap states = new IntLongHashMap(MISSING);
+    private final Map<Integer, Candidate> candidates = new HashMap<>();
+    // 후보에서 밀려난 이슈 점수의 상한 (밀려난 이슈가 없으면 Long.MIN_VALUE)
+    private long outsideMaxScore = Long.MIN_VALUE;
+    private int openIssues;
+    private int closedIssues;
+    private long closeHoursSum;
+    private int closeCount;
+    // 다음 갱신 시 since 로 사용할 시각
+    private Instant since;
+
+    synchronized IncrementalIssueStats accept(Issue issue) {
+        if (issue.hasPullRequestLink()) return this; // PR 제외
+
+        long state = pack(issue);
+        long previous = states.get(issue.getNumber());
+        if (previous != MISSING && updatedAtSeconds(state) > 0 && updatedAtSeconds(state) < updatedAtSeconds(previous)) {
+            return this; // 늦게 도착한 이전 상태
+        }
+
+        states.put(issue.getNumber(), state);
+        if (previous != MISSING) {
+            apply(previous, -1);
+        }
+        apply(state, 1);
+        offerCandidate(issue);
+        return this;
+    }
+
+    // 삭제되거나 다른 저장소로 옮겨진 이슈
+    synchronized void remove(int number) {
+        long previous = states.remove(number);
+        if (previous != MISSING) {
+            apply(previous, -1);
+        }
+        candidates.remove(number);
+    }
+
+    synchronized void acceptAll(Collection<Issue> changed, Instant nextSince) {
+        changed.forEach(this::accept);
+        this.since = nextSince;
+    }
+
+    synchronized Instant getSince() {
+        return since;
+    }
+
+    synchronized IncrementalIssueStats refreshedAt(Instant nextSince) {
+        this.since = nextSince;
+        return this;
+    }
+
+    synchronized int size() {
+        return states.size();
+    }
+
+    synchronized long estimatedBytes() {
+        return states.estimatedBytes() + candidates.size() * CANDIDATE_BYTES;
+    }
+
+    /**
+     * 후보 중 밀려난 이슈보다 댓글이 많은 것이 TOP_COMMENTED 개보다 적으면, 후보만으로는 상위 이슈를 확정할 수 없습니다.
+     */
+    synchronized boolean needsFullCrawl() {
+        if (outsideMaxScore == Long.MIN_VALUE) {
+            return false;
+        }
+
+        long confirmed = candidates.values().stream().filter(candidate -> candidate.score() > outsideMaxScore).count();
+        return confirmed < IssueStatsAggregator.TOP_COMMENTED;
+    }
+
+    synchronized IssueStats toIssueStats() {
+        TopK<TopCommentedIssue> topCommented = new TopK<>(IssueStatsAggregator.TOP_COMMENTED);
+        candidates.values().forEach(candidate -> topCommented.offer(
+                new TopCommentedIssue(candidate.number(), candidate.title(), candidate.comments()), candidate.score()));
+
+        return IssueStatsAggregator.toIssueStats(openIssues, closedIssues, closeHoursSum, closeCount, topCommented.toList());
+    }
+
+    private void offerCandidate(Issue issue) {
+        // 댓글 수가 같으면 최근(번호가 큰) 이슈 우선 - 전체 조회 시의 기본 정렬(최신순)과 같은 결과
+        long score = ((long) issue.getComments() << 32) | (issue.getNumber() & 0xFFFFFFFFL);
+        candidates.put(issue.getNumber(), new Candidate(issue.getNumber(), issue.getTitle(), issue.getComments(), score));
+        if (candidates.size() <= TOP_COMMENTED_CANDIDATES) {
+            return;
+        }
+
+        Candidate weakest = null;
+        for (Candidate candidate : candidates.values()) {
+            if (weakest == null || candidate.score() < weakest.score()) {
+                weakest = candidate;
+            }
+        }
+        candidates.remove(weakest.number());
+        outsideMaxScore = Math.max(outsideMaxScore, weakest.score());
+    }
+
+    private void apply(long state, int sign) {
+        int status = (int) (state & 0b11);
+        if (status == OPEN) openIssues += sign;
+        else if (status == CLOSED) closedIssues += sign;
+
+        long closeHours = ((state >>> 2) & ((1L << 30) - 1)) - 1;
+        if (closeHours >= 0) {
+            closeHoursSum += sign * closeHours;
+            closeCount += sign;
+        }
+    }
+
+    private static long pack(Issue issue) {
+        int status = "open".equals(issue.getState()) ? OPEN : "closed".equals(issue.getState()) ? CLOSED : 0;
+        OptionalLong closeHours = IssueStatsAggregator.closeHours(issue);
+        long closeHoursPlusOne = closeHours.isPresent() && closeHours.getAsLong() >= 0
+                ? Math.min(closeHours.getAsLong(), MAX_CLOSE_HOURS) + 1 : 0;
+        long updatedAtMillis = IssueStatsAggregator.epochMillis(issue.getUpdatedAt());
+        long updatedAtSeconds = updatedAtMillis < 0 ? 0 : (updatedAtMillis / 1000) & 0xFFFFFFFFL;
+
+        return (updatedAtSeconds << 32) | (closeHoursPlusOne << 2) | status;
+    }
+
+    private static long updatedAtSeconds(long state) {
+        return state >>> 32;
+    }
+}
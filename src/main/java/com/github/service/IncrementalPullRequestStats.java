@@ -0,0 +1,131 @@
+package com.github.service;
+
+import com.github.dto.reposummary.PullRequest;
+import com.github.dto.reposummary.PullRequestStats;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+
+/**
+ * PR 번호별로 상태 / 병합 여부 / 병합 시간 / 수정 시각만 long 하나로 압축해 보관하여, 최근 수정된 PR 만 다시 반영할 수 있게 합니다.
+ * 리뷰어 요청은 요청이 남아 있는 PR 만 보관합니다. 리뷰를 제출하면 요청 목록에서 빠지므로 대부분 열린 PR 입니다.
+ * 보관 중인 상태보다 updated_at 이 이전인 PR 은 무시합니다.
+ */
+class IncrementalPullRequestStats {
+
+    private static final long MISSING = -1;
+    private static final int OPEN = 1;
+    private static final int CLOSED = 2;
+    private static final long MERGED = 1L << 2;
+    private static final long MAX_MERGE_HOURS = (1L << 29) - 2;
+    private static final String[] NO_REVIEWERS = new String[0];
+    // 리뷰어 요청 / 리뷰어 카운터 항목 한 개의 대략적인 크기
+    private static final long REVIEWER_ENTRY_BYTES = 64;
+
+    // PR 번호 -> [수정 시각(초, 0 = 알 수 없음) 32 bit][병합 시간 + 1 (0 = 미집계) 29 bit][병합 여부 1 bit][상태 2 bit]
+    private final IntLongHashMap states = new IntLongHashMap(MISSING);
+    private final Map<Integer, String[]> requestedReviewers = new HashMap<>();
+    private final Map<String, Integer> reviewerCounts = new HashMap<>();
+    private int open;
+    private int closed;
+    private int merged;
+    private long mergeHoursSum;
+    private int mergeCount;
+    // 다음 갱신 시 이 시각 이후 수정된 PR 까지만 조회
+    private Instant since;
+
+    synchronized IncrementalPullRequestStats accept(PullRequest pr) {
+        long state = pack(pr);
+        long previous = states.get(pr.getNumber());
+        if (previous != MISSING && updatedAtSeconds(state) > 0 && updatedAtSeconds(state) < updatedAtSeconds(previous)) {
+            return this; // 늦게 도착한 이전 상태
+        }
+
+        states.put(pr.getNumber(), state);
+        if (previous != MISSING) {
+            apply(previous, Objects.requireNonNullElse(requestedReviewers.remove(pr.getNumber()), NO_REVIEWERS), -1);
+        }
+
+        String[] reviewers = reviewers(pr);
+        if (reviewers.length > 0) {
+            requestedReviewers.put(pr.getNumber(), reviewers);
+        }
+        apply(state, reviewers, 1);
+        return this;
+    }
+
+    synchronized void acceptAll(Collection<PullRequest> changed, Instant nextSince) {
+        changed.forEach(this::accept);
+        this.since = nextSince;
+    }
+
+    synchronized Instant getSince() {
+        return since;
+    }
+
+    synchronized IncrementalPullRequestStats refreshedAt(Instant nextSince) {
+        this.since = nextSince;
+        return this;
+    }
+
+    synchronized int size() {
+        return states.size();
+    }
+
+    synchronized long estimatedBytes() {
+        return states.estimatedBytes() + (requestedReviewers.size() + reviewerCounts.size()) * REVIEWER_ENTRY_BYTES;
+    }
+
+    synchronized PullRequestStats toPullRequestStats() {
+        return PullRequestStatsAggregator.toPullRequestStats(open, closed, merged, mergeHoursSum, mergeCount, reviewerCounts);
+    }
+
+    private void apply(long state, String[] reviewers, int sign) {
+        int status = (int) (state & 0b11);
+        if (status == OPEN) open += sign;
+        else if (status == CLOSED) closed += sign;
+
+        if ((state & MERGED) != 0) {
+            merged += sign;
+            long mergeHours = ((state >>> 3) & ((1L << 29) - 1)) - 1;
+            if (mergeHours >= 0) {
+                mergeHoursSum += sign * mergeHours;
+                mergeCount += sign;
+            }
+        }
+
+        for (String reviewer : reviewers) {
+            // 0 이 되면 제거하여 더 이상 요청되지 않은 리뷰어가 남지 않도록 함
+            reviewerCounts.merge(reviewer, sign, (current, delta) -> current + delta == 0 ? null : current + delta);
+        }
+    }
+
+    private static String[] reviewers(PullRequest pr) {
+        if (pr.getRequestedReviewers() == null || pr.getRequestedReviewers().isEmpty()) {
+            return NO_REVIEWERS;
+        }
+        return pr.getRequestedReviewers().stream()
+                .map(reviewer -> Objects.toString(reviewer.getLogin(), ""))
+                .toArray(String[]::new);
+    }
+
+    private static long pack(PullRequest pr) {
+        int status = "open".equals(pr.getState()) ? OPEN : "closed".equals(pr.getState()) ? CLOSED : 0;
+        long merged = pr.getMergedAt() != null ? MERGED : 0;
+        OptionalLong mergeHours = PullRequestStatsAggregator.mergeHours(pr);
+        long mergeHoursPlusOne = mergeHours.isPresent() && mergeHours.getAsLong() >= 0
+                ? Math.min(mergeHours.getAsLong(), MAX_MERGE_HOURS) + 1 : 0;
+        long updatedAtMillis = IssueStatsAggregator.epochMillis(pr.getUpdatedAt());
+        long updatedAtSeconds = updatedAtMillis < 0 ? 0 : (updatedAtMillis / 1000) & 0xFFFFFFFFL;
+
+        return (updatedAtSeconds << 32) | (mergeHoursPlusOne << 3) | merged | status;
+    }
+
+    private static long updatedAtSeconds(long state) {
+        return state >>> 32;
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.service;
+
+/**
+ * int 키, long 값의 open addressing(선형 탐사) 해시 맵. 박싱 없이 항목당 12 byte 배열 칸만 사용합니다.
+ * 값이 없으면 get 은 missingValue 를 반환합니다. 동기화하지 않으므로 호출하는 쪽에서 보호해야 합니다.
+ */
+class IntLongHashMap {
+
+    private static final int EMPTY = 0;
+    private static final int MIN_CAPACITY = 16;
+
+    private final long missingValue;
+    // 키 0 은 빈 칸 표시로 쓰므로 따로 보관
+    private boolean hasZeroKey;
+    private long zeroValue;
+    private int[] keys;
+    private long[] values;
+    private int size;
+
+    IntLongHashMap(long missingValue) {
+        this.missingValue = missingValue;
+        this.keys = new int[MIN_CAPACITY];
+        this.values = new long[MIN_CAPACITY];
+    }
+
+    long get(int key) {
+        if (key == EMPTY) {
+            return hasZeroKey ? zeroValue : missingValue;
+        }
+
+        int slot = find(keys, key);
+        return keys[slot] == key ? values[slot] : missingValue;
+    }
+
+    void put(int key, long value) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+
+        int slot = find(keys, key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+
+        // load factor 0.5 를 넘으면 두 배로 확장
+        if (size * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+    }
+
+    /**
+     * 제거한 값을 반환합니다. 없으면 missingValue 입니다.
+     */
+    long remove(int key) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) {
+                return missingValue;
+            }
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+
+        int slot = find(keys, key);
+        if (keys[slot] != key) {
+            return missingValue;
+        }
+
+        long removed = values[slot];
+        keys[slot] = EMPTY;
+        size--;
+        shiftBack(slot);
+        return removed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 배열이 차지하는 대략적인 크기(byte).
+     */
+    long estimatedBytes() {
+        return (long) keys.length * (Integer.BYTES + Long.BYTES);
+    }
+
+    // 삭제한 칸 뒤의 같은 탐사 구간 항목을 앞으로 당겨 tombstone 없이 탐사가 끊기지 않게 함
+    private void shiftBack(int emptied) {
+        int mask = keys.length - 1;
+        int hole = emptied;
+        int slot = (hole + 1) & mask;
+        while (keys[slot] != EMPTY) {
+            int home = hash(keys[slot]) & mask;
+            // home 이 (hole, slot] 구간 밖이면 hole 로 옮겨도 탐사 경로에 포함됨
+            boolean movable = hole <= slot ? (home <= hole || home > slot) : (home <= hole && home > slot);
+            if (movable) {
+                keys[hole] = keys[slot];
+                values[hole] = values[slot];
+                keys[slot] = EMPTY;
+                hole = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new int[capacity];
+        values = new long[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = find(keys, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int find(int[] keys, int key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // 연속된 이슈 번호가 한 구간에 몰리지 않도록 섞음
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
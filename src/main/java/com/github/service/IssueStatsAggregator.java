@@ -0,0 +1,98 @@
+package com.github.service;
+
+import com.github.dto.reposummary.Issue;
+import com.github.dto.reposummary.IssueStats;
+import com.github.dto.reposummary.TopCommentedIssue;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * 이슈 목록을 한 번 순회하며 통계를 누적합니다. 저장소 크기와 무관하게 메모리 사용량이 일정합니다.
+ */
+@Slf4j
+class IssueStatsAggregator {
+
+    static final int TOP_COMMENTED = 5;
+
+    private int openIssues;
+    private int closedIssues;
+    private long closeHoursSum;
+    private int closeCount;
+    private final TopK<TopCommentedIssue> topCommented = new TopK<>(TOP_COMMENTED);
+
+    IssueStatsAggregator accept(Issue issue) {
+        if (issue.hasPullRequestLink()) return this; // PR 제외
+
+        String state = issue.getState();
+        if ("open".equals(state)) openIssues++;
+        else if ("closed".equals(state)) closedIssues++;
+
+        OptionalLong closeHours = closeHours(issue);
+        if (closeHours.isPresent()) {
+            closeHoursSum += closeHours.getAsLong();
+            closeCount++;
+        }
+
+        topCommented.offer(new TopCommentedIssue(issue.getNumber(), issue.getTitle(), issue.getComments()), issue.getComments());
+        return this;
+    }
+
+    IssueStats toIssueStats() {
+        return toIssueStats(openIssues, closedIssues, closeHoursSum, closeCount, topCommented.toList());
+    }
+
+    /**
+     * 생성부터 종료까지 걸린 시간(시간 단위). 종료되지 않았거나 날짜를 해석할 수 없으면 비어 있습니다.
+     */
+    static OptionalLong closeHours(Issue issue) {
+        if (issue.getCreatedAt() == null || issue.getClosedAt() == null) {
+            return OptionalLong.empty();
+        }
+
+        try {
+            OffsetDateTime createdAt = OffsetDateTime.parse(issue.getCreatedAt());
+            OffsetDateTime closedAt = OffsetDateTime.parse(issue.getClosedAt());
+            return OptionalLong.of(Duration.between(createdAt, closedAt).toHours());
+        } catch (Exception e) {
+            log.warn("Error parsing dates for issue #{}: {}", issue.getNumber(), e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * ISO-8601 시각을 epoch millis 로 변환합니다. 비어 있거나 해석할 수 없으면 -1 입니다.
+     */
+    static long epochMillis(String timestamp) {
+        if (timestamp == null) {
+            return -1;
+        }
+
+        try {
+            return OffsetDateTime.parse(timestamp).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    static IssueStats toIssueStats(int openIssues, int closedIssues, long closeHoursSum, int closeCount,
+                                   List<TopCommentedIssue> top5) {
+        double avgTimeToClose = closeCount == 0 ? 0.0 :
+                Math.round((double) closeHoursSum / closeCount * 100) / 100.0;
+
+        log.debug("Issue stats collected - Total: {}, Open: {}, Closed: {}, Avg close time: {}", openIssues + closedIssues, openIssues, closedIssues, avgTimeToClose);
+        log.debug("Top 5 commented issues: {}", top5);
+
+        return IssueStats.builder()
+                .totalIssues(openIssues + closedIssues)
+                .openIssues(openIssues)
+                .closedIssues(closedIssues)
+                .avgTimeToCloseIssueHours(avgTimeToClose)
+                .topCommentedIssues(top5)
+                .build();
+    }
+}
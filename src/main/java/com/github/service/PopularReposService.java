@@ -1,83 +1,154 @@
 package com.github.service;
 
+import com.github.cache.HotKeyTracker;
+import com.github.cache.ResponseCache;
+import com.github.cache.SingleFlight;
+import com.github.client.GithubMetricsFilter;
+import com.github.client.GithubPaginator;
+import com.github.config.GithubProperties;
+import com.github.dto.popularrepos.Org;
+import com.github.dto.popularrepos.OrgRepo;
 import com.github.dto.popularrepos.PopularRepoResponse;
+import com.github.dto.popularrepos.RepoSearchResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PopularReposService {
 
+    private static final String SEARCH_PATH = "/search/repositories";
+    // 검색 API 한 페이지의 최대 크기
+    private static final int SEARCH_MAX_PER_PAGE = 100;
+
     private final WebClient webClient;
+    private final GithubPaginator paginator;
+    private final GithubProperties properties;
+    private final ResponseCache responseCache;
+    private final SingleFlight singleFlight;
+    private final HotKeyTracker hotKeyTracker;
+
+    public Mono<PopularRepoResponse> getPopularRepos(String owner, int limit, String authHeader) {
+        String key = ResponseCache.key(authHeader, owner, limit);
+        Supplier<Mono<PopularRepoResponse>> loader =
+                () -> singleFlight.execute(ResponseCache.POPULAR_REPOS, key, () -> fetchPopularRepos(owner, limit, authHeader));
+        hotKeyTracker.record(ResponseCache.POPULAR_REPOS, key, authHeader, loader);
+        return responseCache.get(ResponseCache.POPULAR_REPOS, key, loader);
+    }
+
+    /**
+     * 검색 API 의 별 개수 정렬로 상위 limit 개만 받고, 공개 저장소 수는 조직 정보에서 가져옵니다. (요청 2건, 동시 실행)
+     * 검색 결과가 불완전하거나 검색 API 를 사용할 수 없으면 전체 저장소 목록에서 상위 limit 개를 고릅니다.
+     */
+    public Mono<PopularRepoResponse> fetchPopularRepos(String owner, int limit, String authHeader) {
+        if (!properties.getPopularRepos().isSearchEnabled() || limit < 1 || limit > SEARCH_MAX_PER_PAGE) {
+            return fetchPopularReposByListing(owner, limit, authHeader);
+        }
+
+        Mono<List<OrgRepo>> mostStarred = searchMostStarred(owner, limit, authHeader)
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    log.warn("[Popular Repos] search for {} failed ({}), falling back to listing", owner, e.getStatusCode().value());
+                    return Mono.empty();
+                });
+
+        return Mono.zip(fetchPublicRepoCount(owner, authHeader), mostStarred)
+                .map(result -> toResponse(owner, result.getT1(), result.getT2()))
+                .switchIfEmpty(Mono.defer(() -> fetchPopularReposByListing(owner, limit, authHeader)));
+    }
+
+    private Mono<Integer> fetchPublicRepoCount(String owner, String authHeader) {
+        return withAuth(webClient.get().uri("/orgs/{owner}", owner), authHeader)
+                .retrieve()
+                .bodyToMono(Org.class)
+                .map(Org::getPublicRepos);
+    }
+
+    // 포크도 조직 저장소 목록에 포함되므로 fork:true, 토큰이 접근 가능한 비공개 저장소는 is:public 으로 제외
+    private Mono<List<OrgRepo>> searchMostStarred(String owner, int limit, String authHeader) {
+        return withAuth(webClient.get()
+                        .uri(uriBuilder -> uriBuilder.path(SEARCH_PATH)
+                                .queryParam("q", "{q}")
+                                .queryParam("sort", "stars")
+                                .queryParam("order", "desc")
+                                .queryParam("per_page", limit)
+                                .build("org:" + owner + " fork:true is:public"))
+                        .attribute(GithubMetricsFilter.ROUTE_ATTRIBUTE, SEARCH_PATH), authHeader)
+                .retrieve()
+                .bodyToMono(RepoSearchResult.class)
+                .filter(result -> {
+                    if (result.isIncompleteResults()) {
+                        log.warn("[Popular Repos] incomplete search results for {}, falling back to listing", owner);
+                    }
+                    return !result.isIncompleteResults() && result.getItems() != null;
+                })
+                .map(RepoSearchResult::getItems);
+    }
 
-    public PopularRepoResponse getPopularRepos(String owner, int limit, String authHeader) {
-        return fetchPopularRepos(owner, limit, authHeader);
+    private Mono<PopularRepoResponse> fetchPopularReposByListing(String owner, int limit, String authHeader) {
+        return paginator.fetchAll("/orgs/{owner}/repos", Map.of("type", "public"), OrgRepo.class, authHeader, owner)
+                .reduceWith(() -> new PopularRepoSelector(limit), PopularRepoSelector::accept)
+                .map(selector -> toResponse(owner, selector.total(), selector.mostStarred()));
     }
 
-    public PopularRepoResponse fetchPopularRepos(String owner, int limit, String authHeader) {
-        final int perPage = 100;
-        int page = 1;
-        List<Map<String, Object>> allRepos = new ArrayList<>();
-        boolean hasMore = true;
-
-        while (hasMore) {
-            int currentPage = page;
-
-            var request = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/orgs/{owner}/repos")
-                            .queryParam("type", "public")
-                            .queryParam("per_page", perPage)
-                            .queryParam("page", currentPage)
-                            .build(owner));
-
-            if (authHeader != null && !authHeader.isBlank()) {
-                request = request.header(HttpHeaders.AUTHORIZATION, authHeader);
-            }
-
-            List<Map<String, Object>> reposPage = request
-                    .retrieve()
-                    .bodyToFlux(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .collectList()
-                    .block();
-
-            if (reposPage == null || reposPage.isEmpty()) {
-                hasMore = false;
-            } else {
-                allRepos.addAll(reposPage);
-                hasMore = reposPage.size() == perPage;
-                page++;
-            }
+    private static WebClient.RequestHeadersSpec<?> withAuth(WebClient.RequestHeadersSpec<?> request, String authHeader) {
+        if (authHeader != null && !authHeader.isBlank()) {
+            return request.header(HttpHeaders.AUTHORIZATION, authHeader);
         }
+        return request;
+    }
+
+    /**
+     * 전체 저장소를 한 번 순회하며 별 개수 상위 limit 개만 유지합니다.
+     */
+    static final class PopularRepoSelector {
+        private final TopK<OrgRepo> top;
+        private int total;
+
+        PopularRepoSelector(int limit) {
+            this.top = new TopK<>(limit);
+        }
+
+        PopularRepoSelector accept(OrgRepo repo) {
+            top.offer(repo, repo.getStargazersCount());
+            total++;
+            return this;
+        }
+
+        int total() {
+            return total;
+        }
+
+        List<OrgRepo> mostStarred() {
+            return top.toList();
+        }
+    }
 
-        List<PopularRepoResponse.PopularRepo> popularRepos = allRepos.stream()
-                .sorted((r1, r2) -> Integer.compare(
-                        (Integer) r2.getOrDefault("stargazers_count", 0),
-                        (Integer) r1.getOrDefault("stargazers_count", 0)))
-                .limit(limit)
+    private static PopularRepoResponse toResponse(String owner, int totalPublicRepos, List<OrgRepo> mostStarred) {
+        List<PopularRepoResponse.PopularRepo> popularRepos = mostStarred.stream()
                 .map(repo -> PopularRepoResponse.PopularRepo.builder()
-                        .name((String) repo.get("name"))
-                        .description((String) repo.get("description"))
-                        .stars((Integer) repo.getOrDefault("stargazers_count", 0))
-                        .forks((Integer) repo.getOrDefault("forks_count", 0))
-                        .mainLanguage((String) repo.get("language"))
+                        .name(repo.getName())
+                        .description(repo.getDescription())
+                        .stars(repo.getStargazersCount())
+                        .forks(repo.getForksCount())
+                        .mainLanguage(repo.getLanguage())
                         .build())
                 .toList();
 
         return PopularRepoResponse.builder()
                 .targetOwner(owner)
-                .totalPublicRepos(allRepos.size())
+                .totalPublicRepos(totalPublicRepos)
                 .popularRepos(popularRepos)
                 .lastUpdatedUtc(OffsetDateTime.now(ZoneOffset.UTC).toString())
                 .build();
@@ -0,0 +1,97 @@
+package com.github.service;
+
+import com.github.dto.reposummary.PullRequest;
+import com.github.dto.reposummary.PullRequestStats;
+import com.github.dto.reposummary.TopActiveReviewer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+
+/**
+ * PR 목록을 한 번 순회하며 통계를 누적합니다. 리뷰어 수만큼의 카운터 외에는 PR 수와 무관하게 메모리 사용량이 일정합니다.
+ */
+@Slf4j
+class PullRequestStatsAggregator {
+
+    static final int TOP_REVIEWERS = 5;
+
+    private int open;
+    private int closed;
+    private int merged;
+    private long mergeHoursSum;
+    private int mergeCount;
+    private final Map<String, Integer> reviewerCounts = new HashMap<>();
+
+    PullRequestStatsAggregator accept(PullRequest pr) {
+        String state = pr.getState();
+
+        if ("open".equals(state)) open++;
+        else if ("closed".equals(state)) closed++;
+
+        if (pr.getMergedAt() != null) {
+            merged++;
+            OptionalLong mergeHours = mergeHours(pr);
+            if (mergeHours.isPresent()) {
+                mergeHoursSum += mergeHours.getAsLong();
+                mergeCount++;
+            }
+        }
+
+        if (pr.getRequestedReviewers() != null) {
+            for (PullRequest.Reviewer reviewer : pr.getRequestedReviewers()) {
+                reviewerCounts.merge(Objects.toString(reviewer.getLogin(), ""), 1, Integer::sum);
+            }
+        }
+        return this;
+    }
+
+    PullRequestStats toPullRequestStats() {
+        return toPullRequestStats(open, closed, merged, mergeHoursSum, mergeCount, reviewerCounts);
+    }
+
+    /**
+     * 생성부터 병합까지 걸린 시간(시간 단위). 병합되지 않았거나 날짜를 해석할 수 없으면 비어 있습니다.
+     */
+    static OptionalLong mergeHours(PullRequest pr) {
+        if (pr.getMergedAt() == null) {
+            return OptionalLong.empty();
+        }
+
+        try {
+            OffsetDateTime created = OffsetDateTime.parse(pr.getCreatedAt());
+            OffsetDateTime mergedAt = OffsetDateTime.parse(pr.getMergedAt());
+            long hours = Duration.between(created, mergedAt).toHours();
+            log.debug("PR #{} merged in {} hours", pr.getNumber(), hours);
+            return OptionalLong.of(hours);
+        } catch (Exception e) {
+            log.warn("Failed to parse merge dates for PR #{}: {}", pr.getNumber(), e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    static PullRequestStats toPullRequestStats(int open, int closed, int merged, long mergeHoursSum, int mergeCount,
+                                               Map<String, Integer> reviewerCounts) {
+        double avgMergeTime = mergeCount == 0 ? 0 : (double) mergeHoursSum / mergeCount;
+
+        TopK<TopActiveReviewer> topReviewers = new TopK<>(TOP_REVIEWERS);
+        reviewerCounts.forEach((login, count) -> topReviewers.offer(new TopActiveReviewer(login, count), count));
+        var top5 = topReviewers.toList();
+
+        log.debug("Total PRs: {}, Open: {}, Closed: {}, Merged: {}, Avg Merge Time: {}", open + closed, open, closed, merged, avgMergeTime);
+        log.debug("Top reviewers: {}", top5);
+
+        return PullRequestStats.builder()
+                .totalPrs(open + closed)
+                .openPrs(open)
+                .closedPrs(closed)
+                .mergedPrs(merged)
+                .avgTimeToMergePrHours(Math.round(avgMergeTime * 10) / 10.0)
+                .topActiveReviewers(top5)
+                .build();
+    }
+}
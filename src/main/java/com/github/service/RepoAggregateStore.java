@@ -0,0 +1,184 @@
+package com.github.service;
+
+import com.github.ben.manes.caffeine.cache.Cache;
+import com.github.ben.manes.caffeine.cache.Caffeine;
+import com.github.cache.ResponseCache;
+import com.github.config.GithubProperties;
+import com.github.dto.reposummary.RepoInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 저장소별 이슈 / PR 집계 상태를 보관합니다. 다음 요약 계산 시 since 이후 변경분만 조회하여 반영합니다.
+ * 항목의 무게는 집계 상태의 대략적인 크기(byte)입니다.
+ * 웹훅을 받는 저장소는 이벤트로 집계를 직접 갱신하며, resyncInterval 마다 한 번씩만 GitHub 에서 변경분을 확인합니다.
+ */
+@Component
+class RepoAggregateStore {
+
+    static final String ISSUES = "repo-aggregate-issues";
+    static final String PULL_REQUESTS = "repo-aggregate-pull-requests";
+
+    private final boolean enabled;
+    private final boolean webhookEnabled;
+    private final Duration sinceOverlap;
+    private final Duration resyncInterval;
+    private final Cache<String, IncrementalIssueStats> issues;
+    private final Cache<String, IncrementalPullRequestStats> pullRequests;
+    // 웹훅 사용 시에만 보관하며, 보관 기간이 resyncInterval 이므로 항목이 있으면 동기화 주기 안의 값
+    private final Cache<String, RepoInfo> repoInfos;
+    // 웹훅을 받은 저장소 (owner/repo/) -> 마지막 이벤트 시각
+    private final Cache<String, Instant> eventDriven;
+
+    RepoAggregateStore(GithubProperties properties, MeterRegistry meterRegistry) {
+        GithubProperties.Incremental incremental = properties.getIncremental();
+        GithubProperties.Webhook webhook = properties.getWebhook();
+
+        this.enabled = incremental.isEnabled();
+        this.webhookEnabled = enabled && webhook.isEnabled();
+        this.sinceOverlap = incremental.getSinceOverlap();
+        this.resyncInterval = webhook.getResyncInterval();
+        this.issues = Caffeine.newBuilder()
+                .expireAfterAccess(incremental.getRetention())
+                .maximumWeight(incremental.getMaxWeightBytes())
+                .weigher((String key, IncrementalIssueStats stats) -> weight(stats.estimatedBytes()))
+                .recordStats()
+                .build();
+        this.pullRequests = Caffeine.newBuilder()
+                .expireAfterAccess(incremental.getRetention())
+                .maximumWeight(incremental.getMaxWeightBytes())
+                .weigher((String key, IncrementalPullRequestStats stats) -> weight(stats.estimatedBytes()))
+                .recordStats()
+                .build();
+        this.repoInfos = Caffeine.newBuilder()
+                .expireAfterWrite(resyncInterval)
+                .maximumSize(incremental.getMaxRepos())
+                .build();
+        this.eventDriven = Caffeine.newBuilder()
+                .expireAfterWrite(webhook.getEventDrivenTtl())
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, issues, ISSUES);
+        CaffeineCacheMetrics.monitor(meterRegistry, pullRequests, PULL_REQUESTS);
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이번 조회를 시작한 시각에서 시계 오차만큼 앞당긴 값. 조회 도중 수정된 항목도 다음 갱신에서 다시 반영됩니다.
+     */
+    Instant nextSince() {
+        return Instant.now().minus(sinceOverlap).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    IncrementalIssueStats issues(String key) {
+        return issues.getIfPresent(key);
+    }
+
+    // 갱신 후에도 다시 저장하여 무게를 재계산
+    void putIssues(String key, IncrementalIssueStats stats) {
+        issues.put(key, stats);
+    }
+
+    IncrementalPullRequestStats pullRequests(String key) {
+        return pullRequests.getIfPresent(key);
+    }
+
+    void putPullRequests(String key, IncrementalPullRequestStats stats) {
+        pullRequests.put(key, stats);
+    }
+
+    /**
+     * 최근 웹훅을 받은 저장소이고 lastSyncedAt 이 resyncInterval 안이면, 보관 중인 집계를 GitHub 조회 없이 사용할 수 있습니다.
+     */
+    boolean isEventDriven(String owner, String repo, Instant lastSyncedAt) {
+        return isEventDriven(owner, repo)
+                && lastSyncedAt != null && lastSyncedAt.isAfter(Instant.now().minus(resyncInterval));
+    }
+
+    boolean isEventDriven(String owner, String repo) {
+        return webhookEnabled && eventDriven.getIfPresent(ResponseCache.keyPrefix(owner, repo)) != null;
+    }
+
+    /**
+     * 토큰과 관계없이 이 저장소의 이슈 / PR 집계나 저장소 정보를 보관 중이면 true.
+     */
+    boolean contains(String owner, String repo) {
+        String prefix = ResponseCache.keyPrefix(owner, repo);
+        return containsPrefix(issues, prefix) || containsPrefix(pullRequests, prefix) || containsPrefix(repoInfos, prefix);
+    }
+
+    void markEventDriven(String owner, String repo) {
+        if (webhookEnabled) {
+            eventDriven.put(ResponseCache.keyPrefix(owner, repo), Instant.now());
+        }
+    }
+
+    RepoInfo repoInfo(String key) {
+        return repoInfos.getIfPresent(key);
+    }
+
+    /**
+     * fetchStartedAt 이후 받은 이벤트가 있으면 조회 결과에 반영되지 않았을 수 있으므로 보관하지 않습니다.
+     */
+    void putRepoInfo(String key, String owner, String repo, RepoInfo repoInfo, Instant fetchStartedAt) {
+        if (!webhookEnabled) {
+            return;
+        }
+
+        Instant lastEvent = eventDriven.getIfPresent(ResponseCache.keyPrefix(owner, repo));
+        if (lastEvent == null || lastEvent.isBefore(fetchStartedAt)) {
+            repoInfos.put(key, repoInfo);
+        }
+    }
+
+    // 토큰별로 보관된 같은 저장소의 집계를 모두 갱신
+    void updateIssues(String owner, String repo, Consumer<IncrementalIssueStats> update) {
+        updateAll(issues, ResponseCache.keyPrefix(owner, repo), update);
+    }
+
+    void updatePullRequests(String owner, String repo, Consumer<IncrementalPullRequestStats> update) {
+        updateAll(pullRequests, ResponseCache.keyPrefix(owner, repo), update);
+    }
+
+    void invalidateRepoInfo(String owner, String repo) {
+        String prefix = ResponseCache.keyPrefix(owner, repo);
+        repoInfos.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    void remove(String owner, String repo) {
+        String prefix = ResponseCache.keyPrefix(owner, repo);
+        issues.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        pullRequests.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        repoInfos.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        eventDriven.invalidate(prefix);
+    }
+
+    private static boolean containsPrefix(Cache<String, ?> cache, String prefix) {
+        return cache.asMap().keySet().stream().anyMatch(key -> key.startsWith(prefix));
+    }
+
+    private static int weight(long estimatedBytes) {
+        return (int) Math.min(Integer.MAX_VALUE, estimatedBytes);
+    }
+
+    private static <T> void updateAll(Cache<String, T> cache, String prefix, Consumer<T> update) {
+        Map<String, T> entries = cache.asMap();
+        List<String> keys = entries.keySet().stream().filter(key -> key.startsWith(prefix)).toList();
+        // computeIfPresent 로 다시 저장하여 무게를 재계산
+        keys.forEach(key -> entries.computeIfPresent(key, (k, stats) -> {
+            update.accept(stats);
+            return stats;
+        }));
+    }
+}
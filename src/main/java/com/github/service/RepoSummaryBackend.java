@@ -0,0 +1,19 @@
+package com.github.service;
+
+import com.github.dto.reposummary.IssueStats;
+import com.github.dto.reposummary.PullRequestStats;
+import com.github.dto.reposummary.RepoInfo;
+import reactor.core.publisher.Mono;
+
+/**
+ * 저장소 요약의 각 섹션을 GitHub 에서 조회하는 방식.
+ * github.summary.backend 설정(rest / graphql)으로 구현체를 선택합니다.
+ */
+public interface RepoSummaryBackend {
+
+    Mono<RepoInfo> fetchRepoInfo(String owner, String repo, String authHeader);
+
+    Mono<IssueStats> fetchIssueStats(String owner, String repo, String authHeader);
+
+    Mono<PullRequestStats> fetchPullRequestStats(String owner, String repo, String authHeader);
+}
@@ -1,330 +1,193 @@
 package com.github.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.github.dto.reposummary.*;
+import com.github.cache.HotKeyTracker;
+import com.github.cache.ResponseCache;
+import com.github.cache.SingleFlight;
+import com.github.client.FetchLimiter;
+import com.github.config.GithubProperties;
+import com.github.dto.reposummary.IssueStats;
+import com.github.dto.reposummary.PullRequestStats;
+import com.github.dto.reposummary.RepoInfo;
+import com.github.dto.reposummary.RepoSummaryBatchItem;
+import com.github.dto.reposummary.RepoSummaryBatchRequest;
+import com.github.dto.reposummary.RepoSummaryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RepoSummaryService {
 
-    private final WebClient webClient;
-
-    public RepoSummaryResponse getRepoSummary(String owner, String repo, String authHeader) {
-
-        RepoInfo repoInfo = fetchRepoInfo(owner, repo, authHeader);
-        IssueStats issueStats = fetchIssueStats(owner, repo, authHeader);
-        PullRequestStats pullRequestStats = fetchPullRequestStats(owner, repo, authHeader);
-
-        return RepoSummaryResponse.builder()
-                .owner(owner)
-                .repo(repo)
-                .repoInfo(repoInfo)
-                .issueStats(issueStats)
-                .pullRequestStats(pullRequestStats)
-                .lastUpdatedUtc(OffsetDateTime.now(ZoneOffset.UTC).toString())
-                .build();
+    private final RepoSummaryBackend backend;
+    private final ResponseCache responseCache;
+    private final SingleFlight singleFlight;
+    private final GithubProperties properties;
+    private final SummaryTiming summaryTiming;
+    private final HotKeyTracker hotKeyTracker;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, SectionProgress> inProgress = new ConcurrentHashMap<>();
+
+    /**
+     * deadlineMs(없으면 github.summary.deadline) 안에 계산이 끝나지 않으면 계산은 백그라운드에서 계속하여 캐시를 채우고,
+     * 마지막으로 계산된 요약(stale=true) 또는 완료된 섹션만 담은 요약(incomplete_sections)을 응답합니다.
+     */
+    public Mono<RepoSummaryResponse> getRepoSummary(String owner, String repo, String authHeader, Long deadlineMs) {
+        String key = ResponseCache.key(authHeader, owner, repo);
+        Duration deadline = deadline(deadlineMs);
+
+        return Mono.defer(() -> {
+            // 마감 시간이 지나도 계산이 취소되지 않도록 응답 구독과 분리
+            CompletableFuture<RepoSummaryResponse> computation = loadRepoSummary(key, owner, repo, authHeader, null).toFuture();
+            return Mono.fromFuture(computation, true)
+                    .timeout(deadline, Mono.fromSupplier(() -> afterDeadline(key, owner, repo, deadline)));
+        });
     }
 
-    private RepoInfo fetchRepoInfo(String owner, String repo, String authHeader) {
-        log.info("1. {} header token", authHeader);
-
-        var request = webClient.get()
-                .uri("/repos/{owner}/{repo}", owner, repo);
-
-        if (authHeader != null && !authHeader.isBlank()) {
-            request = request.header(HttpHeaders.AUTHORIZATION, authHeader);
-            log.info("2. {} header token", authHeader);
+    // 마감 시간 없이 캐시된 요약 또는 계산이 끝난 요약
+    // fetchLimiter 가 있으면 이 요청이 시작한 계산의 GitHub 요청은 그 한도를 함께 사용 (미리 갱신은 한도 없이 계산)
+    private Mono<RepoSummaryResponse> loadRepoSummary(String key, String owner, String repo, String authHeader,
+                                                      FetchLimiter fetchLimiter) {
+        Supplier<Mono<RepoSummaryResponse>> loader =
+                () -> singleFlight.execute(ResponseCache.REPO_SUMMARY, key, () -> computeRepoSummary(key, owner, repo, authHeader));
+        hotKeyTracker.record(ResponseCache.REPO_SUMMARY, key, authHeader, loader);
+        if (fetchLimiter == null) {
+            return responseCache.get(ResponseCache.REPO_SUMMARY, key, loader);
         }
-
-        var repoJson = request.retrieve().bodyToMono(JsonNode.class).block();
-
-        return RepoInfo.builder()
-                .name(repoJson.path("name").asText())
-                .description(repoJson.path("description").asText())
-                .forks(repoJson.path("forks_count").asInt())
-                .defaultBranch(repoJson.path("default_branch").asText())
-                .size(repoJson.path("size").asInt())
-                .totalBranches(fetchBranchCount(owner, repo, authHeader))
-                .totalCommits(fetchCommitCount(owner, repo, repoJson.path("default_branch").asText(), authHeader))
-                .latestCommitDateUtc(fetchLatestCommitDate(owner, repo, repoJson.path("default_branch").asText(), authHeader))
-                .build();
+        return responseCache.get(ResponseCache.REPO_SUMMARY, key, () -> fetchLimiter.limit(loader.get()));
     }
 
-    private int fetchBranchCount(String owner, String repo, String authHeader) {
-        int page = 1;
-        int perPage = 100;
-        int totalBranches = 0;
-
-        while (true) {
-            final int pageNum = page;
-
-            var request = webClient.get()
-                            .uri(uriBuilder -> uriBuilder
-                            .path("/repos/{owner}/{repo}/branches")
-                            .queryParam("per_page", perPage)
-                            .queryParam("page", pageNum)
-                            .build(owner, repo));
-
-            if (authHeader != null && !authHeader.isBlank()) {
-                request = request.header(HttpHeaders.AUTHORIZATION, authHeader);
-            }
-
-            List<JsonNode> branches = request.retrieve().bodyToFlux(JsonNode.class).collectList().block();
-
-            if (branches == null || branches.isEmpty()) {
-                log.info("[Branch Fetch] page {}: no more branches found. Total branches so far: {}", page, totalBranches);
-                break;
-            }
-
-            totalBranches += branches.size();
-
-            log.info("[Branch Fetch] page {}: fetched {} branches. Total so far: {}", page, branches.size(), totalBranches);
-
-            if (branches.size() < perPage) {
-                log.info("[Branch Fetch] Reached last page at page {}. Final total branches: {}", page, totalBranches);
-                break;
-            }
-
-            page++;
+    private Duration deadline(Long deadlineMs) {
+        GithubProperties.Summary summary = properties.getSummary();
+        if (deadlineMs == null || deadlineMs <= 0) {
+            return summary.getDeadline();
         }
 
-        log.info("[Branch Fetch] Final total branch count: {}", totalBranches);
-        return totalBranches;
+        Duration requested = Duration.ofMillis(deadlineMs);
+        return requested.compareTo(summary.getMaxDeadline()) > 0 ? summary.getMaxDeadline() : requested;
     }
 
-    private int fetchCommitCount(String owner, String repo, String defaultBranch, String authHeader) {
-        int totalCount = 0;
-        int page = 1;
-
-        while (true) {
-            int currentPage = page;
-
-            log.info("[Commit Fetch] owner={}, repo={}, branch={}, page={}", owner, repo, defaultBranch, currentPage);
-
-            var request = webClient.get()
-                            .uri(uriBuilder -> uriBuilder
-                            .path("/repos/{owner}/{repo}/commits")
-                            .queryParam("sha", defaultBranch)
-                            .queryParam("per_page", 100)
-                            .queryParam("page", currentPage)
-                            .build(owner, repo));
-
-            if (authHeader != null && !authHeader.isBlank()) {
-                request = request.header(HttpHeaders.AUTHORIZATION, authHeader);
-            }
-
-            List<JsonNode> commits = request.retrieve().bodyToFlux(JsonNode.class).collectList().block();
-
-            if (commits == null || commits.isEmpty()) {
-                log.info("[Commit Fetch] 종료 - 페이지 {}에 커밋 없음", currentPage);
-                break;
-            }
-
-            totalCount += commits.size();
-            log.info("[Commit Fetch] 페이지 {} - 커밋 수: {}, 누적 커밋 수: {}", currentPage, commits.size(), totalCount);
-
-            if (commits.size() < 100) {
-                break;
-            }
-
-            page++;
+    private RepoSummaryResponse afterDeadline(String key, String owner, String repo, Duration deadline) {
+        RepoSummaryResponse stale = responseCache.getStale(ResponseCache.REPO_SUMMARY, key);
+        if (stale != null) {
+            log.warn("[Deadline] {}/{} exceeded {} ms, serving summary from {}", owner, repo, deadline.toMillis(), stale.getLastUpdatedUtc());
+            deadlineExceeded("stale");
+            return stale.toBuilder().stale(true).build();
         }
 
-        log.info("[Commit Fetch] 최종 커밋 수: {}", totalCount);
-        return totalCount;
-    }
-
-    private String fetchLatestCommitDate(String owner, String repo, String branch, String authHeader) {
-        var request = webClient.get().uri("/repos/{owner}/{repo}/commits/{branch}", owner, repo, branch) ;
-
-        if (authHeader != null && !authHeader.isBlank()) {
-            request = request.header(HttpHeaders.AUTHORIZATION, authHeader);
-        }
+        SectionProgress progress = inProgress.getOrDefault(key, new SectionProgress());
+        List<String> incompleteSections = new ArrayList<>();
+        if (progress.repoInfo == null) incompleteSections.add("repo_info");
+        if (progress.issueStats == null) incompleteSections.add("issue_stats");
+        if (progress.pullRequestStats == null) incompleteSections.add("pull_request_stats");
 
-        JsonNode commitJson = request.retrieve().bodyToMono(JsonNode.class).block();
-
-        return commitJson.path("commit").path("committer").path("date").asText();  // ISO 8601 형식
+        log.warn("[Deadline] {}/{} exceeded {} ms, incomplete sections: {}", owner, repo, deadline.toMillis(), incompleteSections);
+        deadlineExceeded("partial");
+        return RepoSummaryResponse.builder()
+                .owner(owner)
+                .repo(repo)
+                .repoInfo(progress.repoInfo)
+                .issueStats(progress.issueStats)
+                .pullRequestStats(progress.pullRequestStats)
+                .lastUpdatedUtc(OffsetDateTime.now(ZoneOffset.UTC).toString())
+                .incompleteSections(incompleteSections)
+                .build();
     }
 
-    private IssueStats fetchIssueStats(String owner, String repo, String authHeader) {
-        int openIssues = 0;
-        int closedIssues = 0;
-        List<Long> closeDurations = new ArrayList<>();
-        List<TopCommentedIssue> allIssues = new ArrayList<>();
-
-        int page = 1;
-        int perPage = 100;
-
-        while (true) {
-            log.info("Fetching issues for {}/{} page {}", owner, repo, page);
-
-            int finalPage = page;
-
-            var request = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/repos/{owner}/{repo}/issues")
-                            .queryParam("state", "all")
-                            .queryParam("per_page", perPage)
-                            .queryParam("page", finalPage)
-                            .build(owner, repo));
-
-            if (authHeader != null && !authHeader.isBlank()) {
-                request = request.header(HttpHeaders.AUTHORIZATION, authHeader);
-            }
-
-            List<JsonNode> issues = request.retrieve().bodyToFlux(JsonNode.class).collectList().block();
-
-            if (issues == null || issues.isEmpty()) break;
-
-            for (JsonNode issue : issues) {
-                if (issue.has("pull_request")) continue; // PR 제외
-
-                String state = issue.path("state").asText();
-                if ("open".equals(state)) openIssues++;
-                else if ("closed".equals(state)) closedIssues++;
-
-                if (issue.hasNonNull("created_at") && issue.hasNonNull("closed_at")) {
-                    try {
-                        OffsetDateTime createdAt = OffsetDateTime.parse(issue.path("created_at").asText());
-                        OffsetDateTime closedAt = OffsetDateTime.parse(issue.path("closed_at").asText());
-                        closeDurations.add(Duration.between(createdAt, closedAt).toHours());
-                    } catch (Exception e) {
-                        log.warn("Error parsing dates for issue #{}: {}", issue.path("number").asInt(), e.getMessage());
-                    }
-                }
+    private void deadlineExceeded(String fallback) {
+        meterRegistry.counter("github.summary.deadline.exceeded", "fallback", fallback).increment();
+    }
 
-                allIssues.add(new TopCommentedIssue(
-                        issue.path("number").asInt(),
-                        issue.path("title").asText(),
-                        issue.path("comments").asInt()
-                ));
-            }
+    // 계산 중인 요약에서 먼저 끝난 섹션 (마감 시간 초과 시 부분 응답에 사용)
+    private static final class SectionProgress {
+        private volatile RepoInfo repoInfo;
+        private volatile IssueStats issueStats;
+        private volatile PullRequestStats pullRequestStats;
+    }
 
-            if (issues.size() < perPage) break;
-            page++;
+    /**
+     * 여러 저장소의 요약을 제한된 동시성으로 계산하고, 완료되는 순서대로 내보냅니다.
+     * 한 저장소의 실패는 해당 항목의 error 로만 전달되고 나머지 저장소 처리는 계속됩니다.
+     * 완료된 순서대로 보내므로 마감 시간을 적용하지 않으며, stale / 부분 요약은 내보내지 않습니다.
+     * concurrency 는 동시에 계산하는 저장소 수만 제한하므로, 저장소별 페이지 요청까지 포함한 GitHub 요청 수는
+     * 일괄 요청마다 하나씩 만드는 FetchLimiter(batch.upstream-concurrency) 로 제한합니다.
+     */
+    public Flux<RepoSummaryBatchItem> getRepoSummaries(List<RepoSummaryBatchRequest.RepoRef> repos, String authHeader) {
+        int maxRepos = properties.getBatch().getMaxRepos();
+        if (repos == null || repos.isEmpty() || repos.size() > maxRepos) {
+            return Flux.error(new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "저장소 목록은 1 ~ " + maxRepos + " 개여야 합니다"));
         }
 
-        double avgTimeToClose = closeDurations.isEmpty() ? 0.0 :
-                Math.round(closeDurations.stream().mapToLong(Long::longValue).average().orElse(0.0) * 100) / 100.0;
-
-        List<TopCommentedIssue> top5 = allIssues.stream()
-                .sorted(Comparator.comparingInt(TopCommentedIssue::getCommentsCount).reversed())
-                .limit(5)
-                .toList();
-
-        log.info("Issue stats collected - Total: {}, Open: {}, Closed: {}, Avg close time: {}", openIssues + closedIssues, openIssues, closedIssues, avgTimeToClose);
-        log.info("Top 5 commented issues: {}", top5);
-
-        return IssueStats.builder()
-                .totalIssues(openIssues + closedIssues)
-                .openIssues(openIssues)
-                .closedIssues(closedIssues)
-                .avgTimeToCloseIssueHours(avgTimeToClose)
-                .topCommentedIssues(top5)
-                .build();
+        FetchLimiter fetchLimiter = new FetchLimiter(properties.getBatch().getUpstreamConcurrency());
+        return Flux.fromIterable(repos)
+                .flatMap(ref -> loadRepoSummary(ResponseCache.key(authHeader, ref.getOwner(), ref.getRepo()),
+                                ref.getOwner(), ref.getRepo(), authHeader, fetchLimiter)
+                        .map(summary -> RepoSummaryBatchItem.builder()
+                                .owner(ref.getOwner())
+                                .repo(ref.getRepo())
+                                .summary(summary)
+                                .build())
+                        .onErrorResume(e -> {
+                            log.warn("[Batch Summary] {}/{} failed: {}", ref.getOwner(), ref.getRepo(), e.getMessage());
+                            return Mono.just(RepoSummaryBatchItem.builder()
+                                    .owner(ref.getOwner())
+                                    .repo(ref.getRepo())
+                                    .error(errorMessage(e))
+                                    .build());
+                        }), properties.getBatch().getConcurrency());
     }
 
-    private PullRequestStats fetchPullRequestStats(String owner, String repo, String authHeader) {
-        int open = 0, closed = 0, merged = 0;
-        List<Long> mergeDurations = new ArrayList<>();
-        Map<String, Integer> reviewerCounts = new HashMap<>();
-
-        int page = 1;
-        int perPage = 100;
-        boolean hasMore = true;
-
-        while (hasMore) {
-            log.info("Fetching pull requests for repo: {}/{} page: {}", owner, repo, page);
-
-            int finalPage = page;
-
-            var request = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/repos/{owner}/{repo}/pulls")
-                            .queryParam("state", "all")
-                            .queryParam("per_page", perPage)
-                            .queryParam("page", finalPage)
-                            .build(owner, repo));
-
-            if (authHeader != null && !authHeader.isBlank()) {
-                request = request.header(HttpHeaders.AUTHORIZATION, authHeader);
-            }
-
-            List<JsonNode> prs = request.retrieve().bodyToFlux(JsonNode.class).collectList().block();
-
-            if (prs == null) {
-                log.warn("No response (null) for page {}", page);
-                break;
-            }
-
-            log.info("Fetched {} pull requests from page {}", prs.size(), page);
-
-            if (prs.isEmpty()) {
-                break;
-            }
-
-            for (JsonNode pr : prs) {
-                String state = pr.path("state").asText();
-                boolean isMerged = !pr.path("merged_at").isNull();
-
-                if ("open".equals(state)) open++;
-                else if ("closed".equals(state)) closed++;
-
-                if (isMerged) {
-                    merged++;
-                    try {
-                        OffsetDateTime created = OffsetDateTime.parse(pr.path("created_at").asText());
-                        OffsetDateTime mergedAt = OffsetDateTime.parse(pr.path("merged_at").asText());
-                        mergeDurations.add(Duration.between(created, mergedAt).toHours());
-                        log.debug("PR #{} merged in {} hours", pr.path("number").asInt(), Duration.between(created, mergedAt).toHours());
-                    } catch (Exception e) {
-                        log.warn("Failed to parse merge dates for PR #{}: {}", pr.path("number").asInt(), e.getMessage());
-                    }
-                }
-
-                JsonNode reviewers = pr.path("requested_reviewers");
-                if (reviewers.isArray()) {
-                    for (JsonNode reviewer : reviewers) {
-                        String login = reviewer.path("login").asText();
-                        reviewerCounts.put(login, reviewerCounts.getOrDefault(login, 0) + 1);
-                    }
-                }
-            }
-
-            page++;
-            hasMore = prs.size() == perPage;
+    private static String errorMessage(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return "GitHub API 오류 발생: " + responseException.getStatusCode().value();
         }
+        if (e instanceof ResponseStatusException statusException && statusException.getReason() != null) {
+            return statusException.getReason();
+        }
+        return "요청 처리 실패";
+    }
 
-        double avgMergeTime = mergeDurations.isEmpty() ? 0 : mergeDurations.stream().mapToLong(Long::longValue).average().orElse(0);
-
-        List<TopActiveReviewer> topReviewers = reviewerCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .limit(5)
-                .map(e -> new TopActiveReviewer(e.getKey(), e.getValue()))
-                .toList();
-
-        log.info("Total PRs: {}, Open: {}, Closed: {}, Merged: {}, Avg Merge Time: {}", open + closed, open, closed, merged, avgMergeTime);
-        log.info("Top reviewers: {}", topReviewers);
-
-        return PullRequestStats.builder()
-                .totalPrs(open + closed)
-                .openPrs(open)
-                .closedPrs(closed)
-                .mergedPrs(merged)
-                .avgTimeToMergePrHours(Math.round(avgMergeTime * 10) / 10.0)
-                .topActiveReviewers(topReviewers)
-                .build();
+    private Mono<RepoSummaryResponse> computeRepoSummary(String key, String owner, String repo, String authHeader) {
+        return Mono.defer(() -> {
+            SectionProgress progress = new SectionProgress();
+            inProgress.put(key, progress);
+
+            // 서로 독립적인 섹션은 동시에 조회
+            return summaryTiming.timed("summary", owner, repo, Mono.zip(
+                            summaryTiming.timed("repo_info", owner, repo, backend.fetchRepoInfo(owner, repo, authHeader))
+                                    .doOnNext(repoInfo -> progress.repoInfo = repoInfo),
+                            summaryTiming.timed("issue_stats", owner, repo, backend.fetchIssueStats(owner, repo, authHeader))
+                                    .doOnNext(issueStats -> progress.issueStats = issueStats),
+                            summaryTiming.timed("pull_request_stats", owner, repo, backend.fetchPullRequestStats(owner, repo, authHeader))
+                                    .doOnNext(pullRequestStats -> progress.pullRequestStats = pullRequestStats)))
+                    .map(sections -> RepoSummaryResponse.builder()
+                            .owner(owner)
+                            .repo(repo)
+                            .repoInfo(sections.getT1())
+                            .issueStats(sections.getT2())
+                            .pullRequestStats(sections.getT3())
+                            .lastUpdatedUtc(OffsetDateTime.now(ZoneOffset.UTC).toString())
+                            .build())
+                    .doFinally(signal -> inProgress.remove(key, progress));
+        });
     }
 
 }
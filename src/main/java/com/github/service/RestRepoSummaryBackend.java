@@ -0,0 +1,197 @@
+package com.github.service;
+
+import com.github.cache.ResponseCache;
+import com.github.client.GithubPaginator;
+import com.github.dto.reposummary.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * REST API 로 저장소 정보, 브랜치/커밋 수, 이슈와 PR 목록을 각각 조회합니다.
+ * github.incremental.enabled 이면 이슈 / PR 집계 상태를 저장해 두고 다음 계산 때는 변경분만 조회합니다.
+ * 웹훅으로 갱신 중인 저장소는 보관 중인 저장소 정보와 집계를 GitHub 조회 없이 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "github.summary", name = "backend", havingValue = "rest", matchIfMissing = true)
+public class RestRepoSummaryBackend implements RepoSummaryBackend {
+
+    private static final String ISSUES_PATH = "/repos/{owner}/{repo}/issues";
+    private static final String PULLS_PATH = "/repos/{owner}/{repo}/pulls";
+
+    private final WebClient webClient;
+    private final GithubPaginator paginator;
+    private final SummaryTiming summaryTiming;
+    private final RepoAggregateStore aggregateStore;
+
+    @Override
+    public Mono<RepoInfo> fetchRepoInfo(String owner, String repo, String authHeader) {
+        String key = ResponseCache.key(authHeader, owner, repo);
+        RepoInfo storedInfo = aggregateStore.repoInfo(key);
+        if (storedInfo != null && aggregateStore.isEventDriven(owner, repo)) {
+            return Mono.just(storedInfo);
+        }
+
+        Instant fetchStartedAt = Instant.now();
+        var request = webClient.get()
+                .uri("/repos/{owner}/{repo}", owner, repo);
+
+        if (authHeader != null && !authHeader.isBlank()) {
+            request = request.header(HttpHeaders.AUTHORIZATION, authHeader);
+        }
+
+        // default_branch 가 필요한 조회들이 같은 응답을 공유하도록 캐시
+        Mono<RepoDetail> repoDetail = summaryTiming.timed("repo", owner, repo, request.retrieve().bodyToMono(RepoDetail.class)).cache();
+
+        Mono<Integer> branchCount = summaryTiming.timed("branches", owner, repo, fetchBranchCount(owner, repo, authHeader));
+        Mono<Integer> commitCount = repoDetail.flatMap(detail ->
+                summaryTiming.timed("commits", owner, repo, fetchCommitCount(owner, repo, detail.getDefaultBranch(), authHeader)));
+        Mono<String> latestCommitDate = repoDetail.flatMap(detail ->
+                summaryTiming.timed("latest_commit", owner, repo, fetchLatestCommitDate(owner, repo, detail.getDefaultBranch(), authHeader)));
+
+        return Mono.zip(repoDetail, branchCount, commitCount, latestCommitDate)
+                .map(info -> RepoInfo.builder()
+                        .name(info.getT1().getName())
+                        .description(info.getT1().getDescription())
+                        .forks(info.getT1().getForksCount())
+                        .defaultBranch(info.getT1().getDefaultBranch())
+                        .size(info.getT1().getSize())
+                        .totalBranches(info.getT2())
+                        .totalCommits(info.getT3())
+                        .latestCommitDateUtc(info.getT4())
+                        .build())
+                .doOnNext(info -> aggregateStore.putRepoInfo(key, owner, repo, info, fetchStartedAt));
+    }
+
+    private Mono<Integer> fetchBranchCount(String owner, String repo, String authHeader) {
+        return paginator.count("/repos/{owner}/{repo}/branches", Map.of(), authHeader, owner, repo)
+                .doOnNext(totalBranches -> log.debug("[Branch Fetch] Final total branch count: {}", totalBranches))
+                .map(Long::intValue);
+    }
+
+    private Mono<Integer> fetchCommitCount(String owner, String repo, String defaultBranch, String authHeader) {
+        log.debug("[Commit Fetch] owner={}, repo={}, branch={}", owner, repo, defaultBranch);
+
+        return paginator.count("/repos/{owner}/{repo}/commits", Map.of("sha", defaultBranch), authHeader, owner, repo)
+                .doOnNext(totalCount -> log.debug("[Commit Fetch] 최종 커밋 수: {}", totalCount))
+                .map(Long::intValue);
+    }
+
+    private Mono<String> fetchLatestCommitDate(String owner, String repo, String branch, String authHeader) {
+        var request = webClient.get().uri("/repos/{owner}/{repo}/commits/{branch}", owner, repo, branch) ;
+
+        if (authHeader != null && !authHeader.isBlank()) {
+            request = request.header(HttpHeaders.AUTHORIZATION, authHeader);
+        }
+
+        return request.retrieve().bodyToMono(CommitDetail.class)
+                .map(commit -> Objects.requireNonNullElse(commit.committerDate(), ""));
+    }
+
+    @Override
+    public Mono<IssueStats> fetchIssueStats(String owner, String repo, String authHeader) {
+        log.debug("Fetching issues for {}/{}", owner, repo);
+
+        if (!aggregateStore.isEnabled()) {
+            return paginator.fetchAll(ISSUES_PATH, Map.of("state", "all"), Issue.class, authHeader, owner, repo)
+                    .reduceWith(IssueStatsAggregator::new, IssueStatsAggregator::accept)
+                    .map(IssueStatsAggregator::toIssueStats);
+        }
+
+        String key = ResponseCache.key(authHeader, owner, repo);
+        Instant nextSince = aggregateStore.nextSince();
+        IncrementalIssueStats stored = aggregateStore.issues(key);
+
+        // 댓글 많은 이슈 후보가 부족해지면 전체 목록으로 다시 집계
+        if (stored == null || stored.needsFullCrawl()) {
+            return crawlIssues(key, nextSince, owner, repo, authHeader);
+        }
+
+        if (aggregateStore.isEventDriven(owner, repo, stored.getSince())) {
+            return Mono.fromSupplier(stored::toIssueStats);
+        }
+
+        // 마지막 조회 이후 수정된 이슈만 조회하여 반영 (실패하면 since 를 옮기지 않음)
+        Map<String, String> changedSince = Map.of("state", "all", "since", stored.getSince().toString(),
+                "sort", "updated", "direction", "asc");
+        return paginator.fetchAll(ISSUES_PATH, changedSince, Issue.class, authHeader, owner, repo)
+                .collectList()
+                .flatMap(changed -> {
+                    log.debug("[Incremental] {}/{} {} issues changed since {}", owner, repo, changed.size(), stored.getSince());
+                    stored.acceptAll(changed, nextSince);
+                    if (stored.needsFullCrawl()) {
+                        log.debug("[Incremental] {}/{} top commented candidates exhausted, crawling all issues", owner, repo);
+                        return crawlIssues(key, nextSince, owner, repo, authHeader);
+                    }
+                    aggregateStore.putIssues(key, stored);
+                    return Mono.just(stored.toIssueStats());
+                });
+    }
+
+    private Mono<IssueStats> crawlIssues(String key, Instant nextSince, String owner, String repo, String authHeader) {
+        return paginator.fetchAll(ISSUES_PATH, Map.of("state", "all"), Issue.class, authHeader, owner, repo)
+                .reduceWith(IncrementalIssueStats::new, IncrementalIssueStats::accept)
+                .doOnNext(stats -> aggregateStore.putIssues(key, stats.refreshedAt(nextSince)))
+                .map(IncrementalIssueStats::toIssueStats);
+    }
+
+    @Override
+    public Mono<PullRequestStats> fetchPullRequestStats(String owner, String repo, String authHeader) {
+        log.debug("Fetching pull requests for repo: {}/{}", owner, repo);
+
+        if (!aggregateStore.isEnabled()) {
+            return paginator.fetchAll(PULLS_PATH, Map.of("state", "all"), PullRequest.class, authHeader, owner, repo)
+                    .reduceWith(PullRequestStatsAggregator::new, PullRequestStatsAggregator::accept)
+                    .map(PullRequestStatsAggregator::toPullRequestStats);
+        }
+
+        String key = ResponseCache.key(authHeader, owner, repo);
+        Instant nextSince = aggregateStore.nextSince();
+        IncrementalPullRequestStats stored = aggregateStore.pullRequests(key);
+
+        if (stored == null) {
+            return paginator.fetchAll(PULLS_PATH, Map.of("state", "all"), PullRequest.class, authHeader, owner, repo)
+                    .reduceWith(IncrementalPullRequestStats::new, IncrementalPullRequestStats::accept)
+                    .doOnNext(stats -> aggregateStore.putPullRequests(key, stats.refreshedAt(nextSince)))
+                    .map(IncrementalPullRequestStats::toPullRequestStats);
+        }
+
+        if (aggregateStore.isEventDriven(owner, repo, stored.getSince())) {
+            return Mono.fromSupplier(stored::toPullRequestStats);
+        }
+
+        // PR 목록 API 는 since 를 지원하지 않으므로 수정 시각 내림차순으로 읽다가 마지막 조회 시각 이전에서 멈춤
+        Instant since = stored.getSince();
+        Map<String, String> recentlyUpdated = Map.of("state", "all", "sort", "updated", "direction", "desc");
+        return paginator.fetchWhile(PULLS_PATH, recentlyUpdated, PullRequest.class, pr -> isUpdatedSince(pr.getUpdatedAt(), since),
+                        authHeader, owner, repo)
+                .collectList()
+                .map(changed -> {
+                    log.debug("[Incremental] {}/{} {} pull requests changed since {}", owner, repo, changed.size(), since);
+                    stored.acceptAll(changed, nextSince);
+                    aggregateStore.putPullRequests(key, stored);
+                    return stored.toPullRequestStats();
+                });
+    }
+
+    // 수정 시각을 알 수 없으면 변경된 것으로 간주
+    private static boolean isUpdatedSince(String updatedAt, Instant since) {
+        try {
+            return updatedAt == null || !OffsetDateTime.parse(updatedAt).toInstant().isBefore(since);
+        } catch (DateTimeParseException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저장소 요약의 섹션별 소요 시간을 github.summary.section 타이머(section, outcome 태그)로 기록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class SummaryTiming {
+
+    private final MeterRegistry meterRegistry;
+
+    <T> Mono<T> timed(String section, String owner, String repo, Mono<T> source) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return source.doFinally(signal -> {
+                long elapsedNanos = System.nanoTime() - startNanos;
+                timer(section, signal).record(elapsedNanos, TimeUnit.NANOSECONDS);
+                log.debug("[Summary Timing] {}/{} {} took {} ms ({})", owner, repo, section,
+                        TimeUnit.NANOSECONDS.toMillis(elapsedNanos), signal);
+            });
+        });
+    }
+
+    private Timer timer(String section, SignalType signal) {
+        String outcome = switch (signal) {
+            case ON_COMPLETE -> "success";
+            case ON_ERROR -> "error";
+            default -> "cancelled";
+        };
+
+        return Timer.builder("github.summary.section")
+                .description("Time spent computing each section of a repository summary")
+                .tag("section", section)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 점수 상위 K 개만 유지하는 bounded min-heap. 점수가 같으면 먼저 들어온 원소를 우선합니다.
+ */
+public class TopK<T> {
+
+    private record Entry<T>(T value, long score, long sequence) {
+    }
+
+    private final int k;
+    // head 가 가장 약한 원소 (점수가 낮고, 늦게 들어온 원소)
+    private final Comparator<Entry<T>> weakestFirst = Comparator.<Entry<T>>comparingLong(Entry::score)
+            .thenComparing(Comparator.<Entry<T>>comparingLong(Entry::sequence).reversed());
+    private final PriorityQueue<Entry<T>> heap;
+    private long sequence;
+
+    public TopK(int k) {
+        this.k = k;
+        this.heap = new PriorityQueue<>(Math.max(1, k), weakestFirst);
+    }
+
+    public void offer(T value, long score) {
+        if (k <= 0) {
+            return;
+        }
+
+        Entry<T> entry = new Entry<>(value, score, sequence++);
+        if (heap.size() < k) {
+            heap.add(entry);
+        } else if (score > heap.peek().score()) {
+            heap.poll();
+            heap.add(entry);
+        }
+    }
+
+    public List<T> toList() {
+        return heap.stream()
+                .sorted(weakestFirst.reversed())
+                .map(Entry::value)
+                .toList();
+    }
+}
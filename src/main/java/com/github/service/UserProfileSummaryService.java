@@ -1,5 +1,9 @@
 package com.github.service;
 
+import com.github.cache.HotKeyTracker;
+import com.github.cache.ResponseCache;
+import com.github.cache.SingleFlight;
+import com.github.client.GithubPaginator;
 import com.github.dto.userprofilesummary.LanguageDistribution;
 import com.github.dto.userprofilesummary.Repo;
 import com.github.dto.userprofilesummary.UserProfile;
@@ -10,10 +14,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -21,22 +27,35 @@ import java.util.*;
 public class UserProfileSummaryService {
 
     private final WebClient webClient;
+    private final GithubPaginator paginator;
+    private final ResponseCache responseCache;
+    private final SingleFlight singleFlight;
+    private final HotKeyTracker hotKeyTracker;
+
+    public Mono<UserProfileResponse> getUserProfileSummary(String username, String authHeader) {
+        String key = ResponseCache.key(authHeader, username);
+        Supplier<Mono<UserProfileResponse>> loader =
+                () -> singleFlight.execute(ResponseCache.USER_PROFILE, key, () -> computeUserProfileSummary(username, authHeader));
+        hotKeyTracker.record(ResponseCache.USER_PROFILE, key, authHeader, loader);
+        return responseCache.get(ResponseCache.USER_PROFILE, key, loader);
+    }
 
-    public UserProfileResponse getUserProfileSummary(String username, String authHeader) {
-            var userProfile = fetchUserProfile(username, authHeader);
-            var languages = fetchUserLanguageStats(username, authHeader);
-
-            return UserProfileResponse.builder()
-                    .username(userProfile.getLogin())
-                    .profileUrl(userProfile.getProfileUrl())
-                    .avatarUrl(userProfile.getAvatarUrl())
-                    .publicRepos(userProfile.getPublicRepos())
-                    .languageDistribution(languages)
-                    .lastUpdatedUtc(DateTimeFormatter.ISO_INSTANT.format(Instant.now()))
-                    .build();
+    private Mono<UserProfileResponse> computeUserProfileSummary(String username, String authHeader) {
+        // 저장소 페이지 수는 프로필의 public_repos 로 계산하므로 프로필 요청을 공유
+        Mono<UserProfile> profile = fetchUserProfile(username, authHeader).cache();
+
+        return Mono.zip(profile, fetchUserLanguageStats(username, profile.map(UserProfile::getPublicRepos), authHeader))
+                .map(summary -> UserProfileResponse.builder()
+                        .username(summary.getT1().getLogin())
+                        .profileUrl(summary.getT1().getProfileUrl())
+                        .avatarUrl(summary.getT1().getAvatarUrl())
+                        .publicRepos(summary.getT1().getPublicRepos())
+                        .languageDistribution(summary.getT2())
+                        .lastUpdatedUtc(DateTimeFormatter.ISO_INSTANT.format(Instant.now()))
+                        .build());
     }
 
-    private UserProfile fetchUserProfile(String username, String authHeader) {
+    private Mono<UserProfile> fetchUserProfile(String username, String authHeader) {
 
         var request = webClient.get().uri("/users/{username}", username);
 
@@ -44,62 +63,42 @@ public class UserProfileSummaryService {
             request = request.header(HttpHeaders.AUTHORIZATION, authHeader);
         }
 
-        return request.retrieve().bodyToMono(UserProfile.class).block();
+        return request.retrieve().bodyToMono(UserProfile.class);
 
     }
 
-    private List<LanguageDistribution> fetchUserLanguageStats(String username, String authHeader) {
-
-        Map<String, Integer> languageCount = new HashMap<>();
-        int totalRepos = 0;
-
-        int page = 1;
-        int perPage = 100;
-        boolean hasMore = true;
-
-        while (hasMore) {
-            log.info("Fetching repos for user: {} page: {}", username, page);
-
-            // 각 페이지 별 요청
-            int finalPage = page;
-
-            var request = webClient.get().uri(uriBuilder -> uriBuilder
-                            .path("/users/{username}/repos")
-                            .queryParam("per_page", perPage)
-                            .queryParam("page", finalPage)
-                            .build(username)) ;
-
-            if (authHeader != null && !authHeader.isBlank()) {
-                request = request.header(HttpHeaders.AUTHORIZATION, authHeader);
-            }
-
-            List<Repo> repos = request.retrieve().bodyToFlux(Repo.class).collectList().block();
+    /**
+     * 저장소 페이지를 도착하는 순서대로 언어별 개수에 반영합니다. 저장소 목록 자체는 모으지 않습니다.
+     */
+    private Mono<List<LanguageDistribution>> fetchUserLanguageStats(String username, Mono<Integer> publicRepos, String authHeader) {
+        log.debug("Fetching repos for user: {}", username);
 
-            if (repos == null) {
-                log.warn("No response (null) for page {}", page);
-                break;
-            }
-
-            log.info("Fetched {} repos from page {}", repos.size(), page);
-
-            if (repos.isEmpty()) {
-                hasMore = false;
-                break;
-            }
+        return paginator.fetchCounted("/users/{username}/repos", Map.of(), Repo.class, publicRepos, authHeader, username)
+                .reduceWith(LanguageHistogram::new, LanguageHistogram::accept)
+                .map(LanguageHistogram::toLanguageDistribution);
+    }
 
-            totalRepos += repos.size();
+    static final class LanguageHistogram {
+        private final Map<String, Integer> languageCount = new HashMap<>();
+        private int totalRepos;
 
-            for (Repo repo : repos) {
-                String lang = repo.getLanguage();
-                if (lang == null || lang.isEmpty()) {
-                    lang = "Other";  // 언어 미지정 저장소는 Other로 분류
-                }
-                languageCount.put(lang, languageCount.getOrDefault(lang, 0) + 1);
+        LanguageHistogram accept(Repo repo) {
+            String lang = repo.getLanguage();
+            if (lang == null || lang.isEmpty()) {
+                lang = "Other";  // 언어 미지정 저장소는 Other로 분류
             }
+            languageCount.merge(lang, 1, Integer::sum);
+            totalRepos++;
+            return this;
+        }
 
-            page++;
-            hasMore = repos.size() == perPage; // 페이지에 모든 데이터가 있다면 다음 페이지도 있음
+        List<LanguageDistribution> toLanguageDistribution() {
+            return UserProfileSummaryService.toLanguageDistribution(languageCount, totalRepos);
         }
+    }
+
+    private static List<LanguageDistribution> toLanguageDistribution(Map<String, Integer> languageCount, int totalRepos) {
+        log.debug("Fetched {} repos", totalRepos);
 
         if (totalRepos == 0) {
             return Collections.emptyList();
@@ -0,0 +1,118 @@
+package com.github.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.config.GithubProperties;
+import com.github.dto.reposummary.TopCommentedIssue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SnapshotStoreTest {
+
+    private static final String CACHE = "test";
+    private static final Map<String, Class<?>> TYPES = Map.of(CACHE, TopCommentedIssue.class);
+
+    @TempDir
+    Path dir;
+
+    private GithubProperties properties;
+    private Path log;
+
+    @BeforeEach
+    void setUp() {
+        log = dir.resolve("snapshots.log");
+        properties = new GithubProperties();
+        properties.getSnapshot().setPath(log);
+    }
+
+    @Test
+    void keepsLatestRecordPerKey() throws Exception {
+        write("a", issue(1, 10));
+        write("b", issue(2, 20));
+        write("a", issue(1, 11));
+
+        assertThat(load()).extracting(SnapshotStore.Snapshot::key, SnapshotStore.Snapshot::value)
+                .containsExactly(tuple("b", issue(2, 20)),
+                        tuple("a", issue(1, 11)));
+    }
+
+    @Test
+    void ignoresTornTailRecord() throws Exception {
+        write("a", issue(1, 10));
+        write("b", issue(2, 20));
+        truncate(Files.size(log) - 3);
+
+        assertThat(load()).extracting(SnapshotStore.Snapshot::key).containsExactly("a");
+        // 압축으로 잘린 레코드가 제거되어 이후 기록이 그 뒤에 이어짐
+        write("c", issue(3, 30));
+        assertThat(load()).extracting(SnapshotStore.Snapshot::key).containsExactly("a", "c");
+    }
+
+    @Test
+    void ignoresRestOfLogAfterCrcMismatch() throws Exception {
+        write("a", issue(1, 10));
+        long corrupted = Files.size(log) + Integer.BYTES + 8;
+        write("b", issue(2, 20));
+        write("c", issue(3, 30));
+        flipByte(corrupted);
+
+        assertThat(load()).extracting(SnapshotStore.Snapshot::key).containsExactly("a");
+    }
+
+    @Test
+    void ignoresFileWithUnknownHeader() throws Exception {
+        Files.write(log, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+
+        assertThat(load()).isEmpty();
+    }
+
+    // 기록마다 새 저장소를 열고 닫아 대기 중인 기록을 파일에 반영
+    private void write(String key, Object value) throws InterruptedException {
+        SnapshotStore store = store();
+        store.append(CACHE, key, value);
+        store.close();
+    }
+
+    private List<SnapshotStore.Snapshot> load() throws InterruptedException {
+        SnapshotStore store = store();
+        try {
+            return store.load(TYPES);
+        } finally {
+            store.close();
+        }
+    }
+
+    private SnapshotStore store() {
+        return new SnapshotStore(properties, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    private void truncate(long size) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(log.toFile(), "rw")) {
+            file.setLength(size);
+        }
+    }
+
+    private void flipByte(long position) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(log.toFile(), "rw")) {
+            file.seek(position);
+            int value = file.read();
+            file.seek(position);
+            file.write(value ^ 0xFF);
+        }
+    }
+
+    private static TopCommentedIssue issue(int number, int comments) {
+        return new TopCommentedIssue(number, "Issue #" + number, comments);
+    }
+}
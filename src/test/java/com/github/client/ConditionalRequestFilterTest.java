@@ -0,0 +1,106 @@
+package com.github.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalRequestFilterTest {
+
+    private static final int MAX_ENTRY_BYTES = 1024;
+    private static final Duration BLOCK = Duration.ofSeconds(5);
+
+    private final ConditionalRequestFilter filter =
+            new ConditionalRequestFilter(1024 * 1024, MAX_ENTRY_BYTES, ExchangeStrategies.withDefaults());
+    private final List<ClientRequest> sent = new ArrayList<>();
+
+    @Test
+    void replaysSmallBodyOnNotModified() {
+        String body = "{\"name\":\"hello-world\"}";
+
+        ClientResponse first = filter.filter(request(), exchange(ok("\"v1\"", buffer(body)))).block(BLOCK);
+        assertThat(first.bodyToMono(String.class).block(BLOCK)).isEqualTo(body);
+
+        ClientResponse second = filter.filter(request(), exchange(ClientResponse.create(HttpStatus.NOT_MODIFIED).build())).block(BLOCK);
+
+        assertThat(sent.get(1).headers().getIfNoneMatch()).containsExactly("\"v1\"");
+        assertThat(second.statusCode().value()).isEqualTo(200);
+        assertThat(second.bodyToMono(String.class).block(BLOCK)).isEqualTo(body);
+    }
+
+    @Test
+    void streamsLargePageWithoutJoiningOrStoring() {
+        String chunk = "x".repeat(MAX_ENTRY_BYTES / 2);
+
+        ClientResponse response = filter.filter(request(),
+                exchange(ok("\"page\"", buffer(chunk), buffer(chunk), buffer(chunk)))).block(BLOCK);
+        List<DataBuffer> received = response.bodyToFlux(DataBuffer.class).collectList().block(BLOCK);
+
+        // 버퍼가 하나로 합쳐지지 않고 받은 그대로 전달됨
+        assertThat(received).hasSize(3);
+        filter.filter(request(), exchange(ok("\"page\"", buffer(chunk)))).block(BLOCK);
+        assertThat(sent.get(1).headers().getIfNoneMatch()).isEmpty();
+    }
+
+    @Test
+    void skipsBodyWithLargeContentLength() {
+        ClientResponse large = ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.ETAG, "\"big\"")
+                .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(MAX_ENTRY_BYTES * 10))
+                .body(Flux.just(buffer("{}")))
+                .build();
+
+        filter.filter(request(), exchange(large)).block(BLOCK).releaseBody().block(BLOCK);
+        filter.filter(request(), exchange(ok("\"big\"", buffer("{}")))).block(BLOCK);
+
+        assertThat(sent.get(1).headers().getIfNoneMatch()).isEmpty();
+    }
+
+    @Test
+    void doesNotStoreBodyThatWasNotReadToTheEnd() {
+        ClientResponse response = filter.filter(request(), exchange(ok("\"v1\"", buffer("[1,"), buffer("2]")))).block(BLOCK);
+        response.bodyToFlux(DataBuffer.class).take(1).blockLast(BLOCK);
+
+        filter.filter(request(), exchange(ok("\"v1\"", buffer("[1,2]")))).block(BLOCK);
+
+        assertThat(sent.get(1).headers().getIfNoneMatch()).isEmpty();
+    }
+
+    private ExchangeFunction exchange(ClientResponse response) {
+        return request -> {
+            sent.add(request);
+            return Mono.just(response);
+        };
+    }
+
+    private static ClientResponse ok(String etag, DataBuffer... body) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.ETAG, etag)
+                .body(Flux.just(body))
+                .build();
+    }
+
+    private static DataBuffer buffer(String value) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ClientRequest request() {
+        return ClientRequest.create(HttpMethod.GET, URI.create("https://api.github.com/repos/octocat/hello-world/issues?page=2")).build();
+    }
+}
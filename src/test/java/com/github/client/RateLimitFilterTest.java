@@ -0,0 +1,243 @@
+package com.github.client;
+
+import com.github.config.GithubProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitFilterTest {
+
+    private static final long RESET_EPOCH_SECOND = 2_000_000_000L;
+    // reset 100초 전
+    private static final long NOW = RESET_EPOCH_SECOND * 1000 - 100_000;
+
+    private GithubProperties.RateLimit properties;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GithubProperties.RateLimit();
+        properties.setMinBackoff(Duration.ofMillis(1));
+        properties.setMaxBackoff(Duration.ofMillis(10));
+        properties.setMaxRetries(2);
+        filter = new RateLimitFilter(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void doesNotPaceUnknownBudget() {
+        assertThat(filter.pacingDelay(new RateLimitFilter.Budget(), RateLimitFilter.Priority.BULK, NOW)).isZero();
+    }
+
+    @Test
+    void doesNotPaceAboveThreshold() {
+        RateLimitFilter.Budget budget = budget(1000, 600);
+
+        assertThat(filter.pacingDelay(budget, RateLimitFilter.Priority.BULK, NOW)).isZero();
+        assertThat(filter.pacingDelay(budget, RateLimitFilter.Priority.INTERACTIVE, NOW)).isZero();
+    }
+
+    @Test
+    void reservesConsecutiveSlotsForConcurrentBulkRequests() {
+        // 대화형 몫 100 을 제외한 잔량 200 을 reset 까지 100초에 나눔 -> 500ms 간격
+        RateLimitFilter.Budget budget = budget(1000, 300);
+
+        assertThat(filter.pacingDelay(budget, RateLimitFilter.Priority.BULK, NOW)).isZero();
+        assertThat(filter.pacingDelay(budget, RateLimitFilter.Priority.BULK, NOW)).isEqualTo(Duration.ofMillis(500));
+        assertThat(filter.pacingDelay(budget, RateLimitFilter.Priority.BULK, NOW)).isEqualTo(Duration.ofMillis(1000));
+    }
+
+    @Test
+    void ignoresReservationsInThePast() {
+        RateLimitFilter.Budget budget = budget(1000, 300);
+        filter.pacingDelay(budget, RateLimitFilter.Priority.BULK, NOW);
+
+        assertThat(filter.pacingDelay(budget, RateLimitFilter.Priority.BULK, NOW + 10_000)).isZero();
+    }
+
+    @Test
+    void capsReservationAtMaxPacingDelay() {
+        RateLimitFilter.Budget budget = budget(1000, 300);
+        budget.nextAllowedAt.set(NOW + 3_600_000);
+
+        assertThat(filter.pacingDelay(budget, RateLimitFilter.Priority.BULK, NOW)).isEqualTo(properties.getMaxPacingDelay());
+    }
+
+    @Test
+    void waitsForResetWhenBulkShareIsUsedUp() {
+        RateLimitFilter.Budget budget = budget(1000, 100);
+
+        assertThat(filter.pacingDelay(budget, RateLimitFilter.Priority.BULK, NOW)).isEqualTo(properties.getMaxPacingDelay());
+        // 대화형 요청은 남겨 둔 몫을 사용
+        assertThat(filter.pacingDelay(budget, RateLimitFilter.Priority.INTERACTIVE, NOW)).isZero();
+    }
+
+    @Test
+    void classifiesSecondaryRateLimit() {
+        String secondary = "{\"message\":\"You have exceeded a secondary rate limit. Please wait a few minutes before you try again.\"}";
+
+        assertThat(RateLimitFilter.isSecondaryRateLimited(headers("Retry-After", "5"), "")).isTrue();
+        assertThat(RateLimitFilter.isSecondaryRateLimited(headers("X-RateLimit-Remaining", "12"), secondary)).isTrue();
+        // 잔량이 남은 403 은 권한 오류일 수 있음
+        assertThat(RateLimitFilter.isSecondaryRateLimited(headers("X-RateLimit-Remaining", "12"), "{\"message\":\"Resource not accessible by integration\"}")).isFalse();
+        assertThat(RateLimitFilter.isSecondaryRateLimited(new HttpHeaders(), null)).isFalse();
+    }
+
+    @Test
+    void computesUntilResetOnlyForExhaustedLimit() {
+        long reset = Instant.now().plusSeconds(30).getEpochSecond();
+
+        assertThat(RateLimitFilter.untilReset(headers("X-RateLimit-Remaining", "0", "X-RateLimit-Reset", String.valueOf(reset))))
+                .isBetween(Duration.ofSeconds(29), Duration.ofSeconds(31));
+        assertThat(RateLimitFilter.untilReset(headers("X-RateLimit-Remaining", "0", "X-RateLimit-Reset", "1"))).isZero();
+        assertThat(RateLimitFilter.untilReset(headers("X-RateLimit-Remaining", "3", "X-RateLimit-Reset", String.valueOf(reset)))).isNull();
+    }
+
+    @Test
+    void retriesSecondaryRateLimitUntilMaxRetries() {
+        StubExchange exchange = new StubExchange();
+        for (int i = 0; i < 3; i++) {
+            exchange.respond(HttpStatus.FORBIDDEN, "X-RateLimit-Remaining", "4000", "Retry-After", "0");
+        }
+
+        ClientResponse response = filter.filter(request(), exchange).block(Duration.ofSeconds(5));
+
+        assertThat(exchange.calls.get()).isEqualTo(properties.getMaxRetries() + 1);
+        assertThat(response.statusCode().value()).isEqualTo(403);
+    }
+
+    @Test
+    void retriesSecondaryRateLimitMessageWithoutRetryAfter() {
+        StubExchange exchange = new StubExchange();
+        exchange.respondWithBody(HttpStatus.FORBIDDEN, "{\"message\":\"You have exceeded a secondary rate limit.\"}", "X-RateLimit-Remaining", "4000");
+        exchange.respond(HttpStatus.OK, "X-RateLimit-Remaining", "3999");
+
+        ClientResponse response = filter.filter(request(), exchange).block(Duration.ofSeconds(5));
+
+        assertThat(exchange.calls.get()).isEqualTo(2);
+        assertThat(response.statusCode().value()).isEqualTo(200);
+    }
+
+    @Test
+    void passesPermissionErrorThroughWithoutRetry() {
+        String body = "{\"message\":\"Resource protected by organization SAML enforcement.\"}";
+        StubExchange exchange = new StubExchange();
+        exchange.respondWithBody(HttpStatus.FORBIDDEN, body, "X-RateLimit-Remaining", "4000");
+
+        ClientResponse response = filter.filter(request(), exchange).block(Duration.ofSeconds(5));
+
+        assertThat(exchange.calls.get()).isEqualTo(1);
+        assertThat(response.statusCode().value()).isEqualTo(403);
+        assertThat(response.bodyToMono(String.class).block(Duration.ofSeconds(5))).isEqualTo(body);
+    }
+
+    @Test
+    void retriesExhaustedLimitAfterImminentReset() {
+        StubExchange exchange = new StubExchange();
+        exchange.respond(HttpStatus.TOO_MANY_REQUESTS, "X-RateLimit-Remaining", "0",
+                "X-RateLimit-Reset", String.valueOf(Instant.now().getEpochSecond() - 1));
+        exchange.respond(HttpStatus.OK, "X-RateLimit-Remaining", "4999");
+
+        ClientResponse response = filter.filter(request(), exchange).block(Duration.ofSeconds(5));
+
+        assertThat(exchange.calls.get()).isEqualTo(2);
+        assertThat(response.statusCode().value()).isEqualTo(200);
+    }
+
+    @Test
+    void failsFastWhenResetIsBeyondMaxResetWait() {
+        StubExchange exchange = new StubExchange();
+        exchange.respond(HttpStatus.FORBIDDEN, "X-RateLimit-Remaining", "0",
+                "X-RateLimit-Reset", String.valueOf(Instant.now().plusSeconds(3600).getEpochSecond()));
+
+        ClientResponse response = filter.filter(request(), exchange).block(Duration.ofSeconds(5));
+
+        assertThat(exchange.calls.get()).isEqualTo(1);
+        assertThat(response.statusCode().value()).isEqualTo(403);
+    }
+
+    @Test
+    void capsPrewarmRequestsPerResetWindow() {
+        // 한도 10 의 20% -> reset 창마다 사전 계산 요청 2건
+        String reset = String.valueOf(RESET_EPOCH_SECOND);
+        StubExchange exchange = new StubExchange();
+        for (int i = 0; i < 4; i++) {
+            exchange.respond(HttpStatus.OK, "X-RateLimit-Limit", "10", "X-RateLimit-Remaining", "9", "X-RateLimit-Reset", reset);
+        }
+        exchange.respond(HttpStatus.OK, "X-RateLimit-Limit", "10", "X-RateLimit-Remaining", "10", "X-RateLimit-Reset", String.valueOf(RESET_EPOCH_SECOND + 3600));
+        exchange.respond(HttpStatus.OK, "X-RateLimit-Limit", "10", "X-RateLimit-Remaining", "9", "X-RateLimit-Reset", String.valueOf(RESET_EPOCH_SECOND + 3600));
+        filter.filter(request(), exchange).block(Duration.ofSeconds(5));
+
+        filter.prewarm(filter.filter(request(), exchange), 0.2).block(Duration.ofSeconds(5));
+        assertThat(filter.withinPrewarmBudget(null, 0.2)).isTrue();
+        filter.prewarm(filter.filter(request(), exchange), 0.2).block(Duration.ofSeconds(5));
+
+        assertThat(filter.withinPrewarmBudget(null, 0.2)).isFalse();
+        assertThatThrownBy(() -> filter.prewarm(filter.filter(request(), exchange), 0.2).block(Duration.ofSeconds(5)))
+                .isInstanceOf(RateLimitFilter.PrewarmBudgetExhaustedException.class);
+        assertThat(exchange.calls.get()).isEqualTo(3);
+
+        // 사용자 요청은 제한하지 않고, reset 창이 바뀌면 다시 셈
+        filter.filter(request(), exchange).block(Duration.ofSeconds(5));
+        filter.filter(request(), exchange).block(Duration.ofSeconds(5));
+        assertThat(filter.withinPrewarmBudget(null, 0.2)).isTrue();
+        assertThat(filter.prewarm(filter.filter(request(), exchange), 0.2).block(Duration.ofSeconds(5)).statusCode().value()).isEqualTo(200);
+        assertThat(exchange.calls.get()).isEqualTo(6);
+    }
+
+    private static RateLimitFilter.Budget budget(int limit, int remaining) {
+        RateLimitFilter.Budget budget = new RateLimitFilter.Budget();
+        budget.limit.set(limit);
+        budget.remaining.set(remaining);
+        budget.resetEpochSecond = RESET_EPOCH_SECOND;
+        return budget;
+    }
+
+    private static HttpHeaders headers(String... nameValues) {
+        HttpHeaders headers = new HttpHeaders();
+        for (int i = 0; i < nameValues.length; i += 2) {
+            headers.add(nameValues[i], nameValues[i + 1]);
+        }
+        return headers;
+    }
+
+    private static ClientRequest request() {
+        return ClientRequest.create(HttpMethod.GET, URI.create("https://api.github.com/repos/octocat/hello-world")).build();
+    }
+
+    // 미리 정해 둔 응답을 순서대로 반환
+    private static final class StubExchange implements ExchangeFunction {
+        private final Deque<ClientResponse> responses = new ArrayDeque<>();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        void respond(HttpStatus status, String... headers) {
+            respondWithBody(status, "", headers);
+        }
+
+        void respondWithBody(HttpStatus status, String body, String... headers) {
+            responses.add(ClientResponse.create(status).headers(h -> h.addAll(headers(headers))).body(body).build());
+        }
+
+        @Override
+        public Mono<ClientResponse> exchange(ClientRequest request) {
+            calls.incrementAndGet();
+            return Mono.just(responses.poll());
+        }
+    }
+}
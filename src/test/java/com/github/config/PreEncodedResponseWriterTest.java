@@ -0,0 +1,148 @@
+package com.github.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.cache.EncodedResponseCache;
+import com.github.dto.reposummary.RepoSummaryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PreEncodedResponseWriterTest {
+
+    private static final ResolvableType TYPE = ResolvableType.forClass(RepoSummaryResponse.class);
+    private static final Duration BLOCK = Duration.ofSeconds(5);
+
+    private final RepoSummaryResponse summary = RepoSummaryResponse.builder()
+            .owner("octocat")
+            .repo("hello-world")
+            .lastUpdatedUtc("2024-05-01T12:40:00Z")
+            .build();
+
+    private EncodedResponseCache encodedResponses;
+    private PreEncodedResponseWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        GithubProperties properties = new GithubProperties();
+        properties.getEncoding().setGzipMinBytes(1);
+        encodedResponses = new EncodedResponseCache(properties, new ObjectMapper(), new SimpleMeterRegistry());
+        writer = new PreEncodedResponseWriter(encodedResponses, true);
+    }
+
+    @Test
+    void writesJsonWithStrongEtag() {
+        MockServerHttpResponse response = write(MockServerHttpRequest.get("/api/repos/octocat/hello-world/summary"), MediaType.APPLICATION_JSON);
+
+        assertThat(response.getStatusCode()).isNotEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getETag()).startsWith("\"").doesNotStartWith("W/");
+        assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getBodyAsString().block(BLOCK)).contains("\"owner\":\"octocat\"");
+    }
+
+    @Test
+    void returnsNotModifiedWhenEtagMatches() {
+        String etag = write(MockServerHttpRequest.get("/"), MediaType.APPLICATION_JSON).getHeaders().getETag();
+
+        for (String ifNoneMatch : List.of(etag, "W/" + etag, "\"other\", " + etag, "*")) {
+            MockServerHttpResponse response = write(MockServerHttpRequest.get("/").header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch),
+                    MediaType.APPLICATION_JSON);
+
+            assertThat(response.getStatusCode()).as(ifNoneMatch).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+            assertThat(response.getBodyAsString().block(BLOCK)).isNullOrEmpty();
+        }
+    }
+
+    @Test
+    void writesBodyWhenEtagDiffersOrMethodIsUnsafe() {
+        String etag = write(MockServerHttpRequest.get("/"), MediaType.APPLICATION_JSON).getHeaders().getETag();
+
+        MockServerHttpResponse changed = write(MockServerHttpRequest.get("/").header(HttpHeaders.IF_NONE_MATCH, "\"other\""),
+                MediaType.APPLICATION_JSON);
+        MockServerHttpResponse post = write(MockServerHttpRequest.post("/").header(HttpHeaders.IF_NONE_MATCH, etag),
+                MediaType.APPLICATION_JSON);
+
+        assertThat(changed.getStatusCode()).isNotEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(changed.getBodyAsString().block(BLOCK)).isNotEmpty();
+        assertThat(post.getStatusCode()).isNotEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(post.getBodyAsString().block(BLOCK)).isNotEmpty();
+    }
+
+    @Test
+    void usesSeparateEtagPerFormatAndEncoding() {
+        MockServerHttpResponse json = write(MockServerHttpRequest.get("/"), MediaType.APPLICATION_JSON);
+        MockServerHttpResponse gzip = write(MockServerHttpRequest.get("/").header(HttpHeaders.ACCEPT_ENCODING, "gzip"),
+                MediaType.APPLICATION_JSON);
+        MockServerHttpResponse cbor = write(MockServerHttpRequest.get("/"), MediaType.APPLICATION_CBOR);
+
+        assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(cbor.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(List.of(json.getHeaders().getETag(), gzip.getHeaders().getETag(), cbor.getHeaders().getETag()))
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void writesJsonForBinaryRequestsWhenBinaryFormatsAreDisabled() {
+        writer = new PreEncodedResponseWriter(encodedResponses, false);
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+
+        assertThat(writer.getWritableMediaTypes()).containsExactly(MediaType.APPLICATION_JSON);
+        // 기본 Jackson 인코더가 대신 바이너리로 쓰지 않도록 Smile / CBOR 요청도 이 writer 가 받음
+        assertThat(writer.canWrite(TYPE, MediaType.APPLICATION_CBOR)).isTrue();
+        assertThat(writer.canWrite(TYPE, MediaType.APPLICATION_XML)).isFalse();
+
+        for (MediaType mediaType : List.of(MediaType.APPLICATION_CBOR, smile)) {
+            MockServerHttpResponse response = write(MockServerHttpRequest.get("/"), mediaType);
+
+            assertThat(response.getHeaders().getContentType()).as(mediaType.toString()).isEqualTo(MediaType.APPLICATION_JSON);
+            assertThat(response.getBodyAsString().block(BLOCK)).contains("\"owner\":\"octocat\"");
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "gzip|true",
+            "GZIP|true",
+            "deflate, gzip;q=0.5|true",
+            "br;q=1.0, *|true",
+            "gzip;q=0|false",
+            "gzip; q=0.000|false",
+            "*;q=0|false",
+            "br, deflate|false",
+            "identity|false"
+    })
+    void parsesAcceptEncoding(String acceptEncoding, boolean expected) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+
+        assertThat(PreEncodedResponseWriter.acceptsGzip(headers)).isEqualTo(expected);
+    }
+
+    @Test
+    void doesNotAcceptGzipWithoutHeader() {
+        assertThat(PreEncodedResponseWriter.acceptsGzip(new HttpHeaders())).isFalse();
+    }
+
+    private MockServerHttpResponse write(MockServerHttpRequest.BaseBuilder<?> request, MediaType mediaType) {
+        MockServerHttpResponse response = new MockServerHttpResponse();
+        writer.write(Mono.just(summary), TYPE, TYPE, mediaType, request.build(), response, Map.of()).block(BLOCK);
+        return response;
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.load;
+
+import com.github.GithubApplication;
+import com.github.mock.MockGithubServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GithubApiController 의 세 API 를 동시성 단계별로 호출하여 p50 / p99 지연 시간과 처리량을 측정합니다.
+ * 요청마다 다른 저장소 / 사용자 / 조직을 조회하므로 응답 캐시에 적중하지 않습니다.
+ * 동시성 단계는 -Dload.concurrency=10,50,100, 단계별 요청 수는 -Dload.requests=500 으로 바꿀 수 있습니다.
+ */
+@Tag("load")
+class ApiLoadTest {
+
+    private static MockGithubServer github;
+    private static ConfigurableApplicationContext app;
+
+    @BeforeAll
+    static void start() throws Exception {
+        github = MockGithubServer.start(MockGithubServer.Settings.defaults());
+        app = new SpringApplicationBuilder(GithubApplication.class)
+                .properties(
+                        "server.port=0",
+                        "github.api.base-url=" + github.baseUrl(),
+                        // 요약 1건이 GitHub 로 여러 요청을 동시에 보내므로 커넥션 풀을 넉넉히 설정
+                        "github.http.max-connections=2000",
+                        "github.http.pending-acquire-max-count=-1",
+                        "github.http.pending-acquire-timeout=120s",
+                        // 이전 실행의 스냅샷이 복원되면 캐시에 적중하므로 사용하지 않음
+                        "github.snapshot.enabled=false",
+                        "logging.level.com.github=WARN")
+                .run();
+    }
+
+    @AfterAll
+    static void stop() {
+        app.close();
+        github.close();
+    }
+
+    @Test
+    void repoSummary() {
+        runLevels("repo-summary", (level, i) -> "/api/repos/load-" + level + "/repo-" + i + "/summary");
+    }
+
+    @Test
+    void userProfileSummary() {
+        runLevels("profile-summary", (level, i) -> "/api/users/user-" + level + "-" + i + "/profile-summary");
+    }
+
+    @Test
+    void popularRepos() {
+        runLevels("popular-repo", (level, i) -> "/api/popular-repo?owner=org-" + level + "-" + i + "&limit=5");
+    }
+
+    private interface UriFactory {
+        String uri(int concurrency, int index);
+    }
+
+    private void runLevels(String name, UriFactory uris) {
+        int[] levels = LoadGenerator.concurrencyLevels("load.concurrency", 1, 10, 50, 100, 200);
+        int requests = Integer.getInteger("load.requests", 500);
+        int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        WebClient client = LoadGenerator.client(port, Arrays.stream(levels).max().orElse(1));
+
+        List<LoadGenerator.Report> reports = new ArrayList<>();
+        for (int concurrency : levels) {
+            IntFunction<String> uri = i -> uris.uri(concurrency, i);
+            LoadGenerator.Report report = LoadGenerator.run(name, client, requests, concurrency, uri);
+            System.out.println(report);
+            reports.add(report);
+        }
+
+        assertThat(reports).allSatisfy(report -> assertThat(report.failures()).isZero());
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.load;
+
+import com.github.GithubApplication;
+import com.github.mock.MockGithubServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reactor Netty 기본값 수준의 커넥션 풀(비압축)과 github.http.* 기본 설정(풀 확장, gzip)을
+ * 동시 저장소 요약 요청으로 비교합니다. ./gradlew loadTest 로 실행합니다.
+ */
+@Tag("load")
+class HttpClientTuningBenchmark {
+
+    private static final int REQUESTS = 300;
+    private static final int CONCURRENCY = 100;
+
+    private static MockGithubServer github;
+
+    @BeforeAll
+    static void startMockGithub() throws Exception {
+        github = MockGithubServer.start(MockGithubServer.Settings.defaults());
+    }
+
+    @AfterAll
+    static void stopMockGithub() {
+        github.close();
+    }
+
+    @Test
+    void compareConnectionPoolSettings() {
+        // Reactor Netty 기본 풀: max(코어 수, 8) * 2 커넥션, 대기 큐는 그 2 배
+        int defaultMaxConnections = Math.max(Runtime.getRuntime().availableProcessors(), 8) * 2;
+
+        LoadGenerator.Report baseline = run("default-pool",
+                "github.http.max-connections=" + defaultMaxConnections,
+                "github.http.pending-acquire-max-count=" + defaultMaxConnections * 2,
+                "github.http.compression=false");
+        LoadGenerator.Report tuned = run("tuned-pool");
+
+        assertThat(tuned.failures()).isZero();
+        System.out.printf("[HttpClient Benchmark] throughput gain x%.2f%n", tuned.throughput() / Math.max(0.1, baseline.throughput()));
+    }
+
+    private LoadGenerator.Report run(String name, String... overrides) {
+        String[] properties = new String[overrides.length + 5];
+        properties[0] = "server.port=0";
+        properties[1] = "github.api.base-url=" + github.baseUrl();
+        properties[2] = "github.cache.enabled=false";
+        properties[3] = "github.conditional-requests.enabled=false";
+        properties[4] = "logging.level.com.github=WARN";
+        System.arraycopy(overrides, 0, properties, 5, overrides.length);
+
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(GithubApplication.class)
+                .properties(properties)
+                .run()) {
+
+            int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            WebClient client = LoadGenerator.client(port, CONCURRENCY);
+
+            long bytesBefore = github.bytesSent();
+            LoadGenerator.Report report = LoadGenerator.run(name, client, REQUESTS, CONCURRENCY,
+                    i -> "/api/repos/" + name + "/repo-" + i + "/summary");
+
+            System.out.println(report + " upstreamBytes=" + (github.bytesSent() - bytesBefore));
+            return report;
+        }
+    }
+}
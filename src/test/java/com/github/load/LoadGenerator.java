@@ -0,0 +1,95 @@
+package com.github.load;
+
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * 지정한 동시성으로 GET 요청을 보내고 요청별 지연 시간에서 p50 / p99 와 처리량을 계산합니다.
+ */
+final class LoadGenerator {
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(10);
+
+    record Report(String name, int concurrency, int requests, int failures, long elapsedMillis,
+                  long p50Millis, long p99Millis, long maxMillis) {
+
+        double throughput() {
+            return requests * 1000.0 / Math.max(1, elapsedMillis);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[LoadTest] %-16s concurrency=%4d requests=%5d failures=%3d elapsed=%6d ms "
+                            + "throughput=%8.1f req/s p50=%5d ms p99=%5d ms max=%5d ms",
+                    name, concurrency, requests, failures, elapsedMillis, throughput(), p50Millis, p99Millis, maxMillis);
+        }
+    }
+
+    private record Sample(long millis, boolean succeeded) {
+    }
+
+    private LoadGenerator() {
+    }
+
+    static WebClient client(int port, int maxConnections) {
+        return WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(
+                        ConnectionProvider.builder("load-test").maxConnections(maxConnections).build())))
+                .build();
+    }
+
+    /**
+     * uri(i) 로 만든 요청 requests 건을 최대 concurrency 개씩 동시에 보냅니다.
+     * 서버는 GitHub 오류도 200 + message 로 응답하므로, 본문에 "message" 가 있으면 실패로 셉니다.
+     */
+    static Report run(String name, WebClient client, int requests, int concurrency, IntFunction<String> uri) {
+        long startNanos = System.nanoTime();
+
+        List<Sample> samples = Flux.range(0, requests)
+                .flatMap(i -> client.get()
+                        .uri(uri.apply(i))
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .map(body -> !body.contains("\"message\""))
+                        .onErrorResume(e -> Mono.just(false))
+                        .elapsed()
+                        .map(elapsed -> new Sample(elapsed.getT1(), elapsed.getT2())), concurrency)
+                .collectList()
+                .block(TIMEOUT);
+
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+
+        long[] succeeded = samples.stream().filter(Sample::succeeded).mapToLong(Sample::millis).sorted().toArray();
+        int failures = samples.size() - succeeded.length;
+
+        return new Report(name, concurrency, requests, failures, elapsedMillis,
+                percentile(succeeded, 0.50), percentile(succeeded, 0.99),
+                succeeded.length == 0 ? 0 : succeeded[succeeded.length - 1]);
+    }
+
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(sorted.length * percentile) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    static int[] concurrencyLevels(String property, int... defaults) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            return defaults;
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+    }
+}
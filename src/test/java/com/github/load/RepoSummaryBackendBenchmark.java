@@ -0,0 +1,100 @@
+package com.github.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.GithubApplication;
+import com.github.mock.MockGithubServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * REST / GraphQL 저장소 요약 backend 의 요약 1건당 GitHub 요청 수와 지연 시간을 비교합니다.
+ * 캐시와 조건부 요청을 끄고 매번 전체를 조회합니다. ./gradlew loadTest 로 실행합니다.
+ */
+@Tag("load")
+class RepoSummaryBackendBenchmark {
+
+    private static final int SUMMARIES = 30;
+
+    private static MockGithubServer github;
+
+    record Result(String backend, double requestsPerSummary, long p50Millis, long p99Millis, JsonNode sample) {
+    }
+
+    @BeforeAll
+    static void startMockGithub() throws Exception {
+        github = MockGithubServer.start(MockGithubServer.Settings.defaults());
+    }
+
+    @AfterAll
+    static void stopMockGithub() {
+        github.close();
+    }
+
+    @Test
+    void compareBackends() {
+        Result rest = run("rest");
+        Result graphql = run("graphql");
+
+        for (Result result : new Result[]{rest, graphql}) {
+            System.out.printf("[Backend Benchmark] backend=%s summaries=%d upstream/summary=%.1f p50=%d ms p99=%d ms%n",
+                    result.backend(), SUMMARIES, result.requestsPerSummary(), result.p50Millis(), result.p99Millis());
+        }
+
+        // 두 backend 는 같은 요약을 만들어야 함
+        for (String section : new String[]{"repo_info", "issue_stats", "pull_request_stats"}) {
+            assertThat(graphql.sample().path(section)).as(section).isEqualTo(rest.sample().path(section));
+        }
+        assertThat(graphql.requestsPerSummary()).isLessThan(rest.requestsPerSummary());
+    }
+
+    private Result run(String backend) {
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(GithubApplication.class)
+                .properties(
+                        "server.port=0",
+                        "github.api.base-url=" + github.baseUrl(),
+                        "github.summary.backend=" + backend,
+                        "github.cache.enabled=false",
+                        "github.conditional-requests.enabled=false",
+                        "logging.level.com.github=WARN")
+                .run()) {
+
+            int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            WebClient client = WebClient.builder()
+                    .baseUrl("http://localhost:" + port)
+                    .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer mock-token")
+                    .build();
+
+            long[] latencies = new long[SUMMARIES];
+            JsonNode sample = null;
+            long upstreamBefore = github.requestCount();
+
+            for (int i = 0; i < SUMMARIES; i++) {
+                long startNanos = System.nanoTime();
+                sample = client.get()
+                        .uri("/api/repos/{owner}/{repo}/summary", "bench", "repo")
+                        .retrieve()
+                        .bodyToMono(JsonNode.class)
+                        .block(Duration.ofMinutes(1));
+                latencies[i] = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+            }
+
+            Arrays.sort(latencies);
+            return new Result(backend,
+                    (double) (github.requestCount() - upstreamBefore) / SUMMARIES,
+                    latencies[SUMMARIES / 2],
+                    latencies[(int) Math.ceil(SUMMARIES * 0.99) - 1],
+                    sample);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.load;
+
+import com.github.GithubApplication;
+import com.github.mock.MockGithubServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 요청 1,000 건의 저장소 요약 처리량과 GitHub 요청 수를 측정합니다.
+ * 요약 계산은 Netty 이벤트 루프에서 논블로킹으로 실행되어 spring.threads.virtual.enabled 의 영향을 받지 않으므로 기본 설정으로만 실행합니다.
+ * ./gradlew loadTest 로 실행합니다.
+ */
+@Tag("load")
+class RepoSummaryLoadTest {
+
+    private static final int CONCURRENT_REQUESTS = 1_000;
+
+    private static MockGithubServer github;
+
+    @BeforeAll
+    static void startMockGithub() throws Exception {
+        github = MockGithubServer.start(MockGithubServer.Settings.defaults());
+    }
+
+    @AfterAll
+    static void stopMockGithub() {
+        github.close();
+    }
+
+    @Test
+    void repoSummaryThroughput() {
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(GithubApplication.class)
+                .properties(
+                        "server.port=0",
+                        "github.api.base-url=" + github.baseUrl(),
+                        // 요약 1건이 GitHub 로 여러 요청을 동시에 보내므로 커넥션 풀을 넉넉히 설정
+                        "github.http.max-connections=2000",
+                        "github.http.pending-acquire-max-count=-1",
+                        "github.http.pending-acquire-timeout=120s",
+                        // 이전 실행의 스냅샷이 복원되면 캐시에 적중하므로 사용하지 않음
+                        "github.snapshot.enabled=false",
+                        "logging.level.com.github=WARN")
+                .run()) {
+
+            int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            WebClient client = LoadGenerator.client(port, CONCURRENT_REQUESTS);
+
+            long upstreamBefore = github.requestCount();
+            LoadGenerator.Report report = LoadGenerator.run("repo-summary", client,
+                    CONCURRENT_REQUESTS, CONCURRENT_REQUESTS, i -> "/api/repos/load/repo-" + i + "/summary");
+
+            System.out.println(report + " upstream=" + (github.requestCount() - upstreamBefore));
+
+            assertThat(report.failures()).isZero();
+        }
+    }
+}
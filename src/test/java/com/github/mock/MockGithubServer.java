@@ -0,0 +1,448 @@
+package com.github.mock;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 부하 테스트용 GitHub REST / GraphQL API 대역 서버. 요청마다 지연을 주입하고 Link 헤더(REST) 또는 커서(GraphQL)로 페이지를 나눕니다.
+ * Accept-Encoding: gzip 요청에는 압축해서 응답하고, 토큰(Authorization 헤더) 별로 X-RateLimit-* 헤더를 내려주며 한도를 넘으면 403 으로 응답합니다.
+ * 테스트에서 start() 로 띄우거나, ./gradlew mockGithub 로 단독 실행할 수 있습니다.
+ */
+public class MockGithubServer implements AutoCloseable {
+
+    private static final Instant BASE_TIME = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Settings settings;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+    private final ConcurrentMap<String, RateWindow> rateWindows = new ConcurrentHashMap<>();
+
+    public record Settings(int branches, int commits, int issues, int pulls, int userRepos, int orgRepos, Duration latency,
+                           int rateLimit, Duration rateLimitWindow) {
+
+        // 부하 테스트가 rate limit 조절에 걸리지 않도록 기본 한도는 충분히 크게 설정
+        public static Settings defaults() {
+            return new Settings(5, 1_200, 250, 120, 150, 300, Duration.ofMillis(20), 10_000_000, Duration.ofHours(1));
+        }
+    }
+
+    private record RateWindow(long resetEpochSecond, AtomicInteger used) {
+    }
+
+    private MockGithubServer(HttpServer server, ExecutorService executor, Settings settings) {
+        this.server = server;
+        this.executor = executor;
+        this.settings = settings;
+    }
+
+    public static MockGithubServer start(Settings settings) throws IOException {
+        return start(settings, 0);
+    }
+
+    public static MockGithubServer start(Settings settings, int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 4096);
+        // 지연 주입(sleep) 이 동시 처리량을 제한하지 않도록 가상 스레드에서 처리
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        MockGithubServer mock = new MockGithubServer(server, executor, settings);
+
+        server.createContext("/", mock::handle);
+        server.setExecutor(executor);
+        server.start();
+        return mock;
+    }
+
+    /**
+     * 단독 실행: --port=8089 --latency-ms=20 --issues=250 --pulls=120 --commits=1200 --branches=5
+     * --user-repos=150 --org-repos=300 --rate-limit=5000 --rate-limit-window-s=3600
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith("--") && separator > 2) {
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+
+        Settings defaults = Settings.defaults();
+        Settings settings = new Settings(
+                intOption(options, "branches", defaults.branches()),
+                intOption(options, "commits", defaults.commits()),
+                intOption(options, "issues", defaults.issues()),
+                intOption(options, "pulls", defaults.pulls()),
+                intOption(options, "user-repos", defaults.userRepos()),
+                intOption(options, "org-repos", defaults.orgRepos()),
+                Duration.ofMillis(intOption(options, "latency-ms", (int) defaults.latency().toMillis())),
+                intOption(options, "rate-limit", defaults.rateLimit()),
+                Duration.ofSeconds(intOption(options, "rate-limit-window-s", (int) defaults.rateLimitWindow().toSeconds())));
+
+        MockGithubServer mock = start(settings, intOption(options, "port", 8089));
+        Runtime.getRuntime().addShutdownHook(new Thread(mock::close));
+        System.out.println("[MockGithub] listening on " + mock.baseUrl() + " with " + settings);
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue) {
+        return options.containsKey(name) ? Integer.parseInt(options.get(name)) : defaultValue;
+    }
+
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public long requestCount() {
+        return requestCount.get();
+    }
+
+    public long bytesSent() {
+        return bytesSent.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            Thread.sleep(settings.latency());
+
+            String path = exchange.getRequestURI().getPath();
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            String[] segments = path.substring(1).split("/");
+
+            String resource = "/graphql".equals(path) ? "graphql" : "search".equals(segments[0]) ? "search" : "core";
+            if (!consumeRateLimit(exchange, resource)) {
+                writeJson(exchange, 403, Map.of(
+                        "message", "API rate limit exceeded",
+                        "documentation_url", "https://docs.github.com/rest/overview/resources-in-the-rest-api#rate-limiting"));
+            } else if ("/graphql".equals(path) && "POST".equals(exchange.getRequestMethod())) {
+                handleGraphql(exchange);
+            } else if (segments.length >= 3 && "repos".equals(segments[0])) {
+                handleRepo(exchange, query, segments);
+            } else if (segments.length >= 2 && "users".equals(segments[0])) {
+                handleUser(exchange, query, segments);
+            } else if ("/search/repositories".equals(path)) {
+                handleRepoSearch(exchange, query);
+            } else if (segments.length == 2 && "orgs".equals(segments[0])) {
+                writeJson(exchange, 200, Map.of("login", segments[1], "public_repos", settings.orgRepos()));
+            } else if (segments.length == 3 && "orgs".equals(segments[0]) && "repos".equals(segments[2])) {
+                writePage(exchange, query, settings.orgRepos(), this::orgRepo);
+            } else {
+                writeJson(exchange, 404, Map.of("message", "Not Found"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private boolean consumeRateLimit(HttpExchange exchange, String resource) {
+        String token = exchange.getRequestHeaders().getFirst("Authorization");
+        long now = Instant.now().getEpochSecond();
+
+        RateWindow window = rateWindows.compute((token != null ? token : "anonymous") + "|" + resource,
+                (key, current) -> current == null || current.resetEpochSecond() <= now
+                        ? new RateWindow(now + settings.rateLimitWindow().toSeconds(), new AtomicInteger())
+                        : current);
+        int used = window.used().incrementAndGet();
+
+        exchange.getResponseHeaders().add("X-RateLimit-Limit", String.valueOf(settings.rateLimit()));
+        exchange.getResponseHeaders().add("X-RateLimit-Remaining", String.valueOf(Math.max(0, settings.rateLimit() - used)));
+        exchange.getResponseHeaders().add("X-RateLimit-Reset", String.valueOf(window.resetEpochSecond()));
+        exchange.getResponseHeaders().add("X-RateLimit-Used", String.valueOf(Math.min(used, settings.rateLimit())));
+        exchange.getResponseHeaders().add("X-RateLimit-Resource", resource);
+        return used <= settings.rateLimit();
+    }
+
+    private void handleRepo(HttpExchange exchange, Map<String, String> query, String[] segments) throws IOException {
+        String repo = segments[2];
+
+        if (segments.length == 3) {
+            writeJson(exchange, 200, Map.of(
+                    "name", repo,
+                    "description", "mock repository " + repo,
+                    "forks_count", 42,
+                    "default_branch", "main",
+                    "size", 2048));
+            return;
+        }
+
+        switch (segments[3]) {
+            case "branches" -> writePage(exchange, query, settings.branches(), i -> Map.of("name", "branch-" + i));
+            case "commits" -> {
+                if (segments.length == 5) {
+                    writeJson(exchange, 200, Map.of("commit", Map.of("committer", Map.of("date", BASE_TIME.toString()))));
+                } else {
+                    writePage(exchange, query, settings.commits(), i -> Map.of("sha", Integer.toHexString(i)));
+                }
+            }
+            case "issues" -> writePage(exchange, query, settings.issues(), this::issue);
+            case "pulls" -> writePage(exchange, query, settings.pulls(), this::pullRequest);
+            default -> writeJson(exchange, 404, Map.of("message", "Not Found"));
+        }
+    }
+
+    private void handleUser(HttpExchange exchange, Map<String, String> query, String[] segments) throws IOException {
+        String username = segments[1];
+
+        if (segments.length == 2) {
+            writeJson(exchange, 200, Map.of(
+                    "login", username,
+                    "html_url", "https://github.com/" + username,
+                    "avatar_url", "https://avatars.githubusercontent.com/" + username,
+                    "public_repos", settings.userRepos()));
+        } else if ("repos".equals(segments[2])) {
+            String[] languages = {"Java", "Kotlin", "Go", "TypeScript"};
+            writePage(exchange, query, settings.userRepos(), i -> {
+                Map<String, Object> repo = new HashMap<>();
+                repo.put("name", "repo-" + i);
+                repo.put("language", i % 5 == 0 ? null : languages[i % languages.length]);
+                return repo;
+            });
+        } else {
+            writeJson(exchange, 404, Map.of("message", "Not Found"));
+        }
+    }
+
+    // org:{org} 검색을 별 개수 내림차순으로 응답 (조직 저장소 목록과 같은 데이터)
+    private void handleRepoSearch(HttpExchange exchange, Map<String, String> query) throws IOException {
+        int perPage = Integer.parseInt(query.getOrDefault("per_page", "30"));
+        int page = Integer.parseInt(query.getOrDefault("page", "1"));
+
+        List<Object> items = IntStream.range(0, settings.orgRepos()).boxed()
+                .sorted(Comparator.comparingInt((Integer i) -> orgRepoStars(i)).reversed())
+                .skip((long) (page - 1) * perPage)
+                .limit(perPage)
+                .map(this::orgRepo)
+                .toList();
+
+        writeJson(exchange, 200, Map.of(
+                "total_count", settings.orgRepos(),
+                "incomplete_results", false,
+                "items", items));
+    }
+
+    private void handleGraphql(HttpExchange exchange) throws IOException {
+        JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+        String query = request.path("query").asText();
+        JsonNode variables = request.path("variables");
+        String repo = variables.path("repo").asText();
+
+        Map<String, Object> repository = new LinkedHashMap<>();
+        if (query.contains("issues(")) {
+            repository.put("issues", connection(variables, settings.issues(), this::graphqlIssue));
+        } else if (query.contains("pullRequests(")) {
+            repository.put("pullRequests", connection(variables, settings.pulls(), this::graphqlPullRequest));
+        } else {
+            repository.put("name", repo);
+            repository.put("description", "mock repository " + repo);
+            repository.put("forkCount", 42);
+            repository.put("diskUsage", 2048);
+            repository.put("refs", Map.of("totalCount", settings.branches()));
+            repository.put("defaultBranchRef", Map.of(
+                    "name", "main",
+                    "target", Map.of(
+                            "committedDate", BASE_TIME.toString(),
+                            "history", Map.of("totalCount", settings.commits()))));
+        }
+
+        writeJson(exchange, 200, Map.of("data", Map.of("repository", repository)));
+    }
+
+    // 커서는 다음 페이지의 시작 인덱스
+    private Map<String, Object> connection(JsonNode variables, int total, IntFunction<Object> node) {
+        int pageSize = variables.path("pageSize").asInt(30);
+        int start = variables.path("after").isTextual() ? Integer.parseInt(variables.path("after").asText()) : 0;
+        int end = Math.min(total, start + pageSize);
+
+        List<Object> nodes = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            nodes.add(node.apply(i));
+        }
+
+        Map<String, Object> pageInfo = new HashMap<>();
+        pageInfo.put("hasNextPage", end < total);
+        pageInfo.put("endCursor", end < total ? String.valueOf(end) : null);
+        return Map.of("pageInfo", pageInfo, "nodes", nodes);
+    }
+
+    private Object graphqlIssue(int index) {
+        Instant createdAt = BASE_TIME.plus(Duration.ofHours(index));
+        boolean closed = index % 3 == 0;
+
+        Map<String, Object> issue = new LinkedHashMap<>();
+        issue.put("number", index + 1);
+        issue.put("title", "issue " + (index + 1));
+        issue.put("state", closed ? "CLOSED" : "OPEN");
+        issue.put("createdAt", createdAt.toString());
+        issue.put("closedAt", closed ? createdAt.plus(Duration.ofHours(index % 48 + 1)).toString() : null);
+        issue.put("comments", Map.of("totalCount", index % 17));
+        return issue;
+    }
+
+    private Object graphqlPullRequest(int index) {
+        Instant createdAt = BASE_TIME.plus(Duration.ofHours(index));
+        boolean closed = index % 2 == 0;
+        boolean merged = closed && index % 4 == 0;
+
+        Map<String, Object> pr = new LinkedHashMap<>();
+        pr.put("number", index + 1);
+        pr.put("state", merged ? "MERGED" : closed ? "CLOSED" : "OPEN");
+        pr.put("createdAt", createdAt.toString());
+        pr.put("mergedAt", merged ? createdAt.plus(Duration.ofHours(index % 24 + 1)).toString() : null);
+        pr.put("reviewRequests", Map.of("nodes", List.of(
+                Map.of("requestedReviewer", Map.of("login", "reviewer-" + index % 7)))));
+        return pr;
+    }
+
+    private Object issue(int index) {
+        Instant createdAt = BASE_TIME.plus(Duration.ofHours(index));
+        boolean closed = index % 3 == 0;
+
+        Map<String, Object> issue = new LinkedHashMap<>();
+        issue.put("number", index + 1);
+        issue.put("title", "issue " + (index + 1));
+        issue.put("state", closed ? "closed" : "open");
+        issue.put("comments", index % 17);
+        issue.put("created_at", createdAt.toString());
+        issue.put("closed_at", closed ? createdAt.plus(Duration.ofHours(index % 48 + 1)).toString() : null);
+        issue.put("updated_at", createdAt.plus(Duration.ofHours(index % 48 + 1)).toString());
+        return issue;
+    }
+
+    private Object pullRequest(int index) {
+        Instant createdAt = BASE_TIME.plus(Duration.ofHours(index));
+        boolean closed = index % 2 == 0;
+
+        Map<String, Object> pr = new LinkedHashMap<>();
+        pr.put("number", index + 1);
+        pr.put("state", closed ? "closed" : "open");
+        pr.put("created_at", createdAt.toString());
+        pr.put("merged_at", closed && index % 4 == 0 ? createdAt.plus(Duration.ofHours(index % 24 + 1)).toString() : null);
+        pr.put("updated_at", createdAt.plus(Duration.ofHours(index % 24 + 1)).toString());
+        pr.put("requested_reviewers", List.of(Map.of("login", "reviewer-" + index % 7)));
+        return pr;
+    }
+
+    private Object orgRepo(int index) {
+        Map<String, Object> repo = new LinkedHashMap<>();
+        repo.put("name", "repo-" + index);
+        repo.put("description", "mock org repository " + index);
+        repo.put("stargazers_count", orgRepoStars(index));
+        repo.put("forks_count", index % 100);
+        repo.put("language", "Java");
+        return repo;
+    }
+
+    private static int orgRepoStars(int index) {
+        return (index * 7919) % 10_000;
+    }
+
+    private void writePage(HttpExchange exchange, Map<String, String> query, int total, IntFunction<Object> item) throws IOException {
+        int perPage = Integer.parseInt(query.getOrDefault("per_page", "30"));
+        int page = Integer.parseInt(query.getOrDefault("page", "1"));
+        int lastPage = Math.max(1, (total + perPage - 1) / perPage);
+
+        List<Object> items = new ArrayList<>();
+        for (int i = (page - 1) * perPage; i < Math.min(total, page * perPage); i++) {
+            items.add(item.apply(i));
+        }
+
+        if (lastPage > 1) {
+            exchange.getResponseHeaders().add("Link", linkHeader(exchange, query, page, lastPage));
+        }
+        writeJson(exchange, 200, items);
+    }
+
+    private String linkHeader(HttpExchange exchange, Map<String, String> query, int page, int lastPage) {
+        List<String> links = new ArrayList<>();
+        if (page < lastPage) {
+            links.add(link(exchange, query, page + 1, "next"));
+            links.add(link(exchange, query, lastPage, "last"));
+        }
+        if (page > 1) {
+            links.add(link(exchange, query, page - 1, "prev"));
+            links.add(link(exchange, query, 1, "first"));
+        }
+        return String.join(", ", links);
+    }
+
+    private String link(HttpExchange exchange, Map<String, String> query, int page, String rel) {
+        Map<String, String> params = new LinkedHashMap<>(query);
+        params.put("page", String.valueOf(page));
+
+        StringBuilder url = new StringBuilder(baseUrl()).append(exchange.getRequestURI().getPath()).append('?');
+        params.forEach((name, value) -> url.append(name).append('=').append(value).append('&'));
+        url.setLength(url.length() - 1);
+
+        return "<" + url + ">; rel=\"" + rel + "\"";
+    }
+
+    private void writeJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(bytes);
+            }
+            bytes = compressed.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+
+        bytesSent.addAndGet(bytes.length);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            query.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 기록해 둔 GitHub 웹훅 payload 를 secret 으로 서명(X-Hub-Signature-256)하여 로컬 서버의 웹훅 API 로 순서대로 보냅니다.
+ * 파일 이름 NN-{event}[.{action}].json 의 event 를 X-GitHub-Event 헤더로 사용하며, --owner / --repo 를 주면 payload 의 저장소를 바꿔 보냅니다.
+ * 단독 실행: ./gradlew replayWebhooks --args='--secret=local-secret --owner=load --repo=repo-1'
+ * (--url=http://localhost:8080/api/webhooks/github --dir=src/test/resources/webhooks)
+ */
+public final class WebhookReplay {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private WebhookReplay() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith("--") && separator > 2) {
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+
+        URI url = URI.create(options.getOrDefault("url", "http://localhost:8080/api/webhooks/github"));
+        String secret = options.getOrDefault("secret", System.getenv().getOrDefault("GITHUB_WEBHOOK_SECRET", ""));
+        Path dir = Path.of(options.getOrDefault("dir", "src/test/resources/webhooks"));
+
+        List<Path> payloads;
+        try (Stream<Path> files = Files.list(dir)) {
+            payloads = files.filter(file -> file.getFileName().toString().endsWith(".json")).sorted().toList();
+        }
+
+        HttpClient client = HttpClient.newHttpClient();
+        for (Path payload : payloads) {
+            byte[] body = withRepository(Files.readAllBytes(payload), options.get("owner"), options.get("repo"));
+            String event = eventOf(payload);
+
+            HttpRequest request = HttpRequest.newBuilder(url)
+                    .header("Content-Type", "application/json")
+                    .header("X-GitHub-Event", event)
+                    .header("X-GitHub-Delivery", UUID.randomUUID().toString())
+                    .header("X-Hub-Signature-256", sign(secret, body))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                    .build();
+
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            System.out.println("[WebhookReplay] " + payload.getFileName() + " (" + event + ") -> " + response.statusCode());
+        }
+    }
+
+    public static String sign(String secret, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return "sha256=" + HexFormat.of().formatHex(mac.doFinal(body));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    // NN-{event}[.{action}].json
+    private static String eventOf(Path payload) {
+        String name = payload.getFileName().toString();
+        String withoutOrder = name.substring(name.indexOf('-') + 1);
+        return withoutOrder.substring(0, withoutOrder.indexOf('.'));
+    }
+
+    private static byte[] withRepository(byte[] body, String owner, String repo) throws IOException {
+        if (owner == null && repo == null) {
+            return body;
+        }
+
+        ObjectNode payload = (ObjectNode) OBJECT_MAPPER.readTree(body);
+        ObjectNode repository = (ObjectNode) payload.path("repository");
+        if (owner != null) {
+            ((ObjectNode) repository.path("owner")).put("login", owner);
+        }
+        if (repo != null) {
+            repository.put("name", repo);
+        }
+        repository.put("full_name", repository.path("owner").path("login").asText() + "/" + repository.path("name").asText());
+        return OBJECT_MAPPER.writeValueAsBytes(payload);
+    }
+}
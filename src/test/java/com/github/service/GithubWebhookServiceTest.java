@@ -0,0 +1,197 @@
+package com.github.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.cache.ResponseCache;
+import com.github.config.GithubProperties;
+import com.github.dto.reposummary.IssueStats;
+import com.github.dto.reposummary.RepoInfo;
+import com.github.dto.reposummary.TopCommentedIssue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class GithubWebhookServiceTest {
+
+    private static final String SECRET = "It's a Secret to Everybody";
+    private static final String OWNER = "octo-org";
+    private static final String REPO = "hello-world";
+    private static final String KEY = ResponseCache.key(null, OWNER, REPO);
+
+    private GithubProperties properties;
+    private RepoAggregateStore aggregateStore;
+    private ResponseCache responseCache;
+    private GithubWebhookService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GithubProperties();
+        properties.getWebhook().setEnabled(true);
+        properties.getWebhook().setSecret(SECRET);
+        aggregateStore = new RepoAggregateStore(properties, new SimpleMeterRegistry());
+        responseCache = mock(ResponseCache.class);
+        service = new GithubWebhookService(aggregateStore, responseCache, new ObjectMapper(), new SimpleMeterRegistry(), properties);
+    }
+
+    @Test
+    void acceptsValidSignature() throws IOException {
+        aggregateStore.putIssues(KEY, new IncrementalIssueStats());
+        byte[] body = fixture("07-repository.edited.json");
+
+        assertThat(service.handle("repository", "1", sign(body), body)).isEqualTo(GithubWebhookService.Outcome.APPLIED);
+    }
+
+    @Test
+    void rejectsTamperedBodyAndMalformedSignatures() throws IOException {
+        byte[] body = fixture("07-repository.edited.json");
+        String signature = sign(body);
+        byte[] tampered = body.clone();
+        tampered[tampered.length - 2] ^= 1;
+
+        assertThat(service.handle("repository", "1", signature, tampered)).isEqualTo(GithubWebhookService.Outcome.INVALID_SIGNATURE);
+        assertThat(service.handle("repository", "1", null, body)).isEqualTo(GithubWebhookService.Outcome.INVALID_SIGNATURE);
+        assertThat(service.handle("repository", "1", "sha1=" + signature.substring(7), body)).isEqualTo(GithubWebhookService.Outcome.INVALID_SIGNATURE);
+        assertThat(service.handle("repository", "1", "sha256=not-hex", body)).isEqualTo(GithubWebhookService.Outcome.INVALID_SIGNATURE);
+        verifyNoInteractions(responseCache);
+    }
+
+    @Test
+    void rejectsEverythingWithoutSecret() throws IOException {
+        properties.getWebhook().setSecret("");
+        byte[] body = fixture("07-repository.edited.json");
+
+        assertThat(service.handle("repository", "1", sign(body), body)).isEqualTo(GithubWebhookService.Outcome.INVALID_SIGNATURE);
+    }
+
+    @Test
+    void appliesIssueOpenedAndClosed() throws IOException {
+        aggregateStore.putIssues(KEY, new IncrementalIssueStats());
+
+        deliver("issues", "01-issues.opened.json");
+        assertThat(aggregateStore.issues(KEY).toIssueStats().getOpenIssues()).isEqualTo(1);
+
+        deliver("issues", "02-issues.closed.json");
+        assertThat(aggregateStore.issues(KEY).toIssueStats().getOpenIssues()).isZero();
+        assertThat(aggregateStore.issues(KEY).toIssueStats().getClosedIssues()).isEqualTo(1);
+        assertThat(aggregateStore.isEventDriven(OWNER, REPO)).isTrue();
+        verify(responseCache, times(2)).invalidate(ResponseCache.REPO_SUMMARY, ResponseCache.keyPrefix(OWNER, REPO));
+    }
+
+    @Test
+    void updatesCommentCountOnIssueComment() throws IOException {
+        aggregateStore.putIssues(KEY, new IncrementalIssueStats());
+        deliver("issues", "02-issues.closed.json");
+
+        assertThat(deliver("issue_comment", "08-issue_comment.created.json")).isEqualTo(GithubWebhookService.Outcome.APPLIED);
+
+        IssueStats stats = aggregateStore.issues(KEY).toIssueStats();
+        assertThat(stats.getTotalIssues()).isEqualTo(1);
+        assertThat(stats.getTopCommentedIssues())
+                .extracting(TopCommentedIssue::getIssueNumber, TopCommentedIssue::getCommentsCount)
+                .containsExactly(tuple(9001, 5));
+    }
+
+    @Test
+    void doesNotMarkRepoWithoutAggregateAsEventDriven() throws IOException {
+        assertThat(deliver("issues", "01-issues.opened.json")).isEqualTo(GithubWebhookService.Outcome.IGNORED);
+        assertThat(deliver("push", "04-push.json")).isEqualTo(GithubWebhookService.Outcome.IGNORED);
+
+        assertThat(aggregateStore.isEventDriven(OWNER, REPO)).isFalse();
+        assertThat(aggregateStore.issues(KEY)).isNull();
+    }
+
+    @Test
+    void appliesMergedPullRequest() throws IOException {
+        aggregateStore.putPullRequests(KEY, new IncrementalPullRequestStats());
+
+        deliver("pull_request", "03-pull_request.closed.json");
+
+        assertThat(aggregateStore.pullRequests(KEY).toPullRequestStats().getMergedPrs()).isEqualTo(1);
+        assertThat(aggregateStore.pullRequests(KEY).toPullRequestStats().getTopActiveReviewers()).hasSize(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"push:04-push.json", "create:05-create.json", "delete:06-delete.json", "repository:07-repository.edited.json"})
+    void invalidatesRepoInfo(String delivery) throws IOException {
+        String[] eventAndFixture = delivery.split(":");
+        aggregateStore.putRepoInfo(KEY, OWNER, REPO, RepoInfo.builder().name(REPO).build(), Instant.now());
+
+        assertThat(deliver(eventAndFixture[0], eventAndFixture[1])).isEqualTo(GithubWebhookService.Outcome.APPLIED);
+        assertThat(aggregateStore.repoInfo(KEY)).isNull();
+        assertThat(aggregateStore.isEventDriven(OWNER, REPO)).isTrue();
+    }
+
+    @Test
+    void ignoresPushToOtherBranchAndTagCreation() throws IOException {
+        String push = new String(fixture("04-push.json"), StandardCharsets.UTF_8).replace("refs/heads/main", "refs/heads/feature");
+        String tag = new String(fixture("05-create.json"), StandardCharsets.UTF_8).replace("\"ref_type\": \"branch\"", "\"ref_type\": \"tag\"");
+
+        assertThat(deliver("push", push.getBytes(StandardCharsets.UTF_8))).isEqualTo(GithubWebhookService.Outcome.IGNORED);
+        assertThat(deliver("create", tag.getBytes(StandardCharsets.UTF_8))).isEqualTo(GithubWebhookService.Outcome.IGNORED);
+        verify(responseCache, never()).invalidate(ResponseCache.REPO_SUMMARY, ResponseCache.keyPrefix(OWNER, REPO));
+    }
+
+    @Test
+    void forgetsPreviousOwnerOnTransfer() {
+        aggregateStore.putIssues(KEY, new IncrementalIssueStats());
+        String transferred = """
+                {
+                  "action": "transferred",
+                  "changes": { "owner": { "from": { "organization": { "login": "octo-org" } } } },
+                  "repository": { "name": "hello-world", "owner": { "login": "new-owner" } }
+                }
+                """;
+
+        assertThat(deliver("repository", transferred.getBytes(StandardCharsets.UTF_8))).isEqualTo(GithubWebhookService.Outcome.APPLIED);
+        assertThat(aggregateStore.issues(KEY)).isNull();
+    }
+
+    @Test
+    void reportsMalformedPayloadAndUnhandledEvent() throws IOException {
+        byte[] garbage = "{not json".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(deliver("issues", garbage)).isEqualTo(GithubWebhookService.Outcome.MALFORMED);
+        assertThat(deliver("star", fixture("07-repository.edited.json"))).isEqualTo(GithubWebhookService.Outcome.IGNORED);
+    }
+
+    private GithubWebhookService.Outcome deliver(String event, String fixture) throws IOException {
+        return deliver(event, fixture(fixture));
+    }
+
+    private GithubWebhookService.Outcome deliver(String event, byte[] body) {
+        return service.handle(event, "delivery", sign(body), body);
+    }
+
+    private static byte[] fixture(String name) throws IOException {
+        try (InputStream in = GithubWebhookServiceTest.class.getResourceAsStream("/webhooks/" + name)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static String sign(byte[] body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return "sha256=" + HexFormat.of().formatHex(mac.doFinal(body));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.service;
+
+import com.github.dto.reposummary.Issue;
+import com.github.dto.reposummary.IssueStats;
+import com.github.dto.reposummary.TopCommentedIssue;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IncrementalIssueStatsTest {
+
+    @Test
+    void matchesFullAggregationOnInitialLoad() {
+        List<Issue> issues = List.of(
+                issue(1, "open", 4, null, "2024-01-01T00:00:00Z"),
+                issue(2, "closed", 9, "2024-01-01T10:00:00Z", "2024-01-01T10:00:00Z"),
+                issue(3, "closed", 1, "2024-01-02T02:00:00Z", "2024-01-02T02:00:00Z"));
+
+        IncrementalIssueStats incremental = new IncrementalIssueStats();
+        IssueStatsAggregator full = new IssueStatsAggregator();
+        issues.forEach(incremental::accept);
+        issues.forEach(full::accept);
+
+        assertThat(incremental.toIssueStats()).isEqualTo(full.toIssueStats());
+    }
+
+    @Test
+    void movesOpenIssueToClosed() {
+        IncrementalIssueStats stats = new IncrementalIssueStats()
+                .accept(issue(1, "open", 0, null, "2024-01-01T00:00:00Z"))
+                .accept(issue(2, "open", 0, null, "2024-01-01T00:00:00Z"));
+
+        stats.acceptAll(List.of(issue(1, "closed", 0, "2024-01-01T06:00:00Z", "2024-01-01T06:00:00Z")),
+                Instant.parse("2024-01-01T07:00:00Z"));
+
+        IssueStats result = stats.toIssueStats();
+        assertThat(result.getTotalIssues()).isEqualTo(2);
+        assertThat(result.getOpenIssues()).isEqualTo(1);
+        assertThat(result.getClosedIssues()).isEqualTo(1);
+        assertThat(result.getAvgTimeToCloseIssueHours()).isEqualTo(6.0);
+        assertThat(stats.getSince()).isEqualTo(Instant.parse("2024-01-01T07:00:00Z"));
+    }
+
+    @Test
+    void movesReopenedIssueBackToOpenAndDropsItsCloseTime() {
+        IncrementalIssueStats stats = new IncrementalIssueStats()
+                .accept(issue(1, "closed", 0, "2024-01-01T06:00:00Z", "2024-01-01T06:00:00Z"))
+                .accept(issue(2, "closed", 0, "2024-01-01T02:00:00Z", "2024-01-01T02:00:00Z"));
+
+        stats.accept(issue(1, "open", 0, null, "2024-01-02T00:00:00Z"));
+
+        IssueStats result = stats.toIssueStats();
+        assertThat(result.getTotalIssues()).isEqualTo(2);
+        assertThat(result.getOpenIssues()).isEqualTo(1);
+        assertThat(result.getClosedIssues()).isEqualTo(1);
+        assertThat(result.getAvgTimeToCloseIssueHours()).isEqualTo(2.0);
+    }
+
+    @Test
+    void ignoresOlderStateThanStored() {
+        IncrementalIssueStats stats = new IncrementalIssueStats()
+                .accept(issue(1, "closed", 0, "2024-01-02T00:00:00Z", "2024-01-02T00:00:00Z"))
+                .accept(issue(1, "open", 0, null, "2024-01-01T12:00:00Z"));
+
+        assertThat(stats.toIssueStats().getClosedIssues()).isEqualTo(1);
+        assertThat(stats.toIssueStats().getOpenIssues()).isZero();
+    }
+
+    @Test
+    void removesDeletedIssue() {
+        IncrementalIssueStats stats = new IncrementalIssueStats()
+                .accept(issue(1, "open", 8, null, "2024-01-01T00:00:00Z"))
+                .accept(issue(2, "open", 3, null, "2024-01-01T00:00:00Z"));
+
+        stats.remove(1);
+
+        assertThat(stats.size()).isEqualTo(1);
+        assertThat(stats.toIssueStats().getTotalIssues()).isEqualTo(1);
+        assertThat(stats.toIssueStats().getTopCommentedIssues())
+                .extracting(TopCommentedIssue::getIssueNumber)
+                .containsExactly(2);
+    }
+
+    @Test
+    void updatesTopCommentedWhenCommentsChange() {
+        IncrementalIssueStats stats = new IncrementalIssueStats();
+        for (int number = 1; number <= 6; number++) {
+            stats.accept(issue(number, "open", number, null, "2024-01-01T00:00:00Z"));
+        }
+
+        stats.accept(issue(1, "open", 50, null, "2024-01-02T00:00:00Z"));
+
+        assertThat(stats.toIssueStats().getTopCommentedIssues())
+                .extracting(TopCommentedIssue::getIssueNumber)
+                .containsExactly(1, 6, 5, 4, 3);
+        assertThat(stats.needsFullCrawl()).isFalse();
+    }
+
+    @Test
+    void needsFullCrawlWhenCandidatesCannotConfirmTopCommented() {
+        IncrementalIssueStats stats = new IncrementalIssueStats();
+        int issues = IncrementalIssueStats.TOP_COMMENTED_CANDIDATES + 1;
+        for (int number = 1; number <= issues; number++) {
+            stats.accept(issue(number, "open", number, null, "2024-01-01T00:00:00Z"));
+        }
+        // 가장 댓글이 적은 이슈 1번이 후보에서 밀려나도 후보만으로 상위 이슈를 확정할 수 있음
+        assertThat(stats.needsFullCrawl()).isFalse();
+
+        // 후보의 댓글이 밀려난 이슈보다 적어지면 밀려난 이슈가 상위에 들 수 있음
+        for (int number = 2; number <= issues; number++) {
+            stats.accept(issue(number, "open", 0, null, "2024-01-02T00:00:00Z"));
+        }
+        assertThat(stats.needsFullCrawl()).isTrue();
+    }
+
+    static Issue issue(int number, String state, int comments, String closedAt, String updatedAt) {
+        Issue issue = IssueStatsAggregatorTest.issue(number, state, comments, "2024-01-01T00:00:00Z", closedAt);
+        issue.setUpdatedAt(updatedAt);
+        return issue;
+    }
+}
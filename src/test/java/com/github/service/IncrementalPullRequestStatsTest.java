@@ -0,0 +1,79 @@
+package com.github.service;
+
+import com.github.dto.reposummary.PullRequest;
+import com.github.dto.reposummary.PullRequestStats;
+import com.github.dto.reposummary.TopActiveReviewer;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class IncrementalPullRequestStatsTest {
+
+    @Test
+    void matchesFullAggregationOnInitialLoad() {
+        List<PullRequest> pullRequests = List.of(
+                pullRequest(1, "open", null, "2024-01-01T00:00:00Z", "alice"),
+                pullRequest(2, "closed", "2024-01-01T05:00:00Z", "2024-01-01T05:00:00Z"),
+                pullRequest(3, "closed", null, "2024-01-01T09:00:00Z", "bob", "alice"));
+
+        IncrementalPullRequestStats incremental = new IncrementalPullRequestStats();
+        PullRequestStatsAggregator full = new PullRequestStatsAggregator();
+        pullRequests.forEach(incremental::accept);
+        pullRequests.forEach(full::accept);
+
+        assertThat(incremental.toPullRequestStats()).isEqualTo(full.toPullRequestStats());
+    }
+
+    @Test
+    void movesMergedPullRequestAndReleasesReviewRequests() {
+        IncrementalPullRequestStats stats = new IncrementalPullRequestStats()
+                .accept(pullRequest(1, "open", null, "2024-01-01T00:00:00Z", "alice", "bob"))
+                .accept(pullRequest(2, "open", null, "2024-01-01T00:00:00Z", "alice"));
+
+        // 리뷰 후 병합되면 요청 목록이 비워짐
+        stats.acceptAll(List.of(pullRequest(1, "closed", "2024-01-01T08:00:00Z", "2024-01-01T08:00:00Z")),
+                Instant.parse("2024-01-01T09:00:00Z"));
+
+        PullRequestStats result = stats.toPullRequestStats();
+        assertThat(result.getOpenPrs()).isEqualTo(1);
+        assertThat(result.getClosedPrs()).isEqualTo(1);
+        assertThat(result.getMergedPrs()).isEqualTo(1);
+        assertThat(result.getAvgTimeToMergePrHours()).isEqualTo(8.0);
+        assertThat(result.getTopActiveReviewers())
+                .extracting(TopActiveReviewer::getUsername, TopActiveReviewer::getReviewedPrsCount)
+                .containsExactly(tuple("alice", 1));
+    }
+
+    @Test
+    void movesReopenedPullRequestBackToOpen() {
+        IncrementalPullRequestStats stats = new IncrementalPullRequestStats()
+                .accept(pullRequest(1, "closed", null, "2024-01-01T00:00:00Z"));
+
+        stats.accept(pullRequest(1, "open", null, "2024-01-02T00:00:00Z"));
+
+        PullRequestStats result = stats.toPullRequestStats();
+        assertThat(result.getTotalPrs()).isEqualTo(1);
+        assertThat(result.getOpenPrs()).isEqualTo(1);
+        assertThat(result.getClosedPrs()).isZero();
+    }
+
+    @Test
+    void ignoresOlderStateThanStored() {
+        IncrementalPullRequestStats stats = new IncrementalPullRequestStats()
+                .accept(pullRequest(1, "closed", "2024-01-02T00:00:00Z", "2024-01-02T00:00:00Z"))
+                .accept(pullRequest(1, "open", null, "2024-01-01T00:00:00Z", "alice"));
+
+        assertThat(stats.toPullRequestStats().getMergedPrs()).isEqualTo(1);
+        assertThat(stats.toPullRequestStats().getTopActiveReviewers()).isEmpty();
+    }
+
+    private static PullRequest pullRequest(int number, String state, String mergedAt, String updatedAt, String... reviewers) {
+        PullRequest pr = PullRequestStatsAggregatorTest.pullRequest(number, state, mergedAt, reviewers);
+        pr.setUpdatedAt(updatedAt);
+        return pr;
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntLongHashMapTest {
+
+    @Test
+    void storesZeroKeySeparately() {
+        IntLongHashMap map = new IntLongHashMap(-1);
+        map.put(0, 7);
+
+        assertThat(map.get(0)).isEqualTo(7);
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.remove(0)).isEqualTo(7);
+        assertThat(map.get(0)).isEqualTo(-1);
+        assertThat(map.size()).isZero();
+    }
+
+    @Test
+    void matchesHashMapUnderRandomPutsAndRemoves() {
+        IntLongHashMap map = new IntLongHashMap(-1);
+        Map<Integer, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.getOrDefault(key, -1L));
+                expected.remove(key);
+            } else {
+                map.put(key, i);
+                expected.put(key, (long) i);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (int key = 0; key < 2_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.getOrDefault(key, -1L));
+        }
+    }
+}
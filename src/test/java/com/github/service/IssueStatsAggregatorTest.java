@@ -0,0 +1,76 @@
+package com.github.service;
+
+import com.github.dto.reposummary.Issue;
+import com.github.dto.reposummary.IssueStats;
+import com.github.dto.reposummary.TopCommentedIssue;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IssueStatsAggregatorTest {
+
+    @Test
+    void countsIssuesAndExcludesPullRequests() {
+        IssueStats stats = new IssueStatsAggregator()
+                .accept(issue(1, "open", 0, "2024-01-01T00:00:00Z", null))
+                .accept(issue(2, "closed", 0, "2024-01-01T00:00:00Z", "2024-01-01T10:00:00Z"))
+                .accept(issue(3, "closed", 0, "2024-01-01T00:00:00Z", "2024-01-02T01:00:00Z"))
+                .accept(pullRequestIssue(4))
+                .toIssueStats();
+
+        assertThat(stats.getTotalIssues()).isEqualTo(3);
+        assertThat(stats.getOpenIssues()).isEqualTo(1);
+        assertThat(stats.getClosedIssues()).isEqualTo(2);
+        assertThat(stats.getAvgTimeToCloseIssueHours()).isEqualTo(17.5);
+    }
+
+    @Test
+    void skipsUnparsableDatesInAverage() {
+        IssueStats stats = new IssueStatsAggregator()
+                .accept(issue(1, "closed", 0, "2024-01-01T00:00:00Z", "2024-01-01T04:00:00Z"))
+                .accept(issue(2, "closed", 0, "not-a-date", "2024-01-01T04:00:00Z"))
+                .toIssueStats();
+
+        assertThat(stats.getClosedIssues()).isEqualTo(2);
+        assertThat(stats.getAvgTimeToCloseIssueHours()).isEqualTo(4.0);
+    }
+
+    @Test
+    void keepsTopCommentedIssuesWithEarlierIssueOnTie() {
+        IssueStatsAggregator aggregator = new IssueStatsAggregator();
+        int[] comments = {3, 10, 7, 10, 1, 7, 2};
+        for (int i = 0; i < comments.length; i++) {
+            aggregator.accept(issue(100 - i, "open", comments[i], null, null));
+        }
+
+        assertThat(aggregator.toIssueStats().getTopCommentedIssues())
+                .extracting(TopCommentedIssue::getIssueNumber)
+                .containsExactly(99, 97, 98, 95, 100);
+    }
+
+    @Test
+    void returnsZeroAverageWithoutClosedIssues() {
+        IssueStats stats = new IssueStatsAggregator().toIssueStats();
+
+        assertThat(stats.getTotalIssues()).isZero();
+        assertThat(stats.getAvgTimeToCloseIssueHours()).isZero();
+        assertThat(stats.getTopCommentedIssues()).isEmpty();
+    }
+
+    static Issue issue(int number, String state, int comments, String createdAt, String closedAt) {
+        Issue issue = new Issue();
+        issue.setNumber(number);
+        issue.setTitle("Issue #" + number);
+        issue.setState(state);
+        issue.setComments(comments);
+        issue.setCreatedAt(createdAt);
+        issue.setClosedAt(closedAt);
+        return issue;
+    }
+
+    private static Issue pullRequestIssue(int number) {
+        Issue issue = issue(number, "open", 100, null, null);
+        issue.setPullRequest(new Issue.PullRequestLink());
+        return issue;
+    }
+}
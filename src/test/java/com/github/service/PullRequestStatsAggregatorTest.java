@@ -0,0 +1,72 @@
+package com.github.service;
+
+import com.github.dto.reposummary.PullRequest;
+import com.github.dto.reposummary.PullRequestStats;
+import com.github.dto.reposummary.TopActiveReviewer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PullRequestStatsAggregatorTest {
+
+    @Test
+    void countsStatesAndAveragesMergeTime() {
+        PullRequestStats stats = new PullRequestStatsAggregator()
+                .accept(pullRequest(1, "open", null))
+                .accept(pullRequest(2, "closed", null))
+                .accept(pullRequest(3, "closed", "2024-01-01T03:00:00Z"))
+                .accept(pullRequest(4, "closed", "2024-01-01T06:00:00Z"))
+                .toPullRequestStats();
+
+        assertThat(stats.getTotalPrs()).isEqualTo(4);
+        assertThat(stats.getOpenPrs()).isEqualTo(1);
+        assertThat(stats.getClosedPrs()).isEqualTo(3);
+        assertThat(stats.getMergedPrs()).isEqualTo(2);
+        assertThat(stats.getAvgTimeToMergePrHours()).isEqualTo(4.5);
+    }
+
+    @Test
+    void ranksRequestedReviewers() {
+        PullRequestStats stats = new PullRequestStatsAggregator()
+                .accept(pullRequest(1, "open", null, "alice", "bob"))
+                .accept(pullRequest(2, "open", null, "alice", "carol"))
+                .accept(pullRequest(3, "open", null, "alice", "bob"))
+                .accept(pullRequest(4, "open", null, "dave", "erin", "frank"))
+                .toPullRequestStats();
+
+        assertThat(stats.getTopActiveReviewers()).hasSize(PullRequestStatsAggregator.TOP_REVIEWERS);
+        assertThat(stats.getTopActiveReviewers().subList(0, 2))
+                .extracting(TopActiveReviewer::getUsername, TopActiveReviewer::getReviewedPrsCount)
+                .containsExactly(tuple("alice", 3), tuple("bob", 2));
+    }
+
+    @Test
+    void returnsZeroAverageWithoutMergedPullRequests() {
+        PullRequestStats stats = new PullRequestStatsAggregator()
+                .accept(pullRequest(1, "open", null))
+                .toPullRequestStats();
+
+        assertThat(stats.getMergedPrs()).isZero();
+        assertThat(stats.getAvgTimeToMergePrHours()).isZero();
+        assertThat(stats.getTopActiveReviewers()).isEmpty();
+    }
+
+    static PullRequest pullRequest(int number, String state, String mergedAt, String... reviewers) {
+        PullRequest pr = new PullRequest();
+        pr.setNumber(number);
+        pr.setState(state);
+        pr.setCreatedAt("2024-01-01T00:00:00Z");
+        pr.setMergedAt(mergedAt);
+        pr.setRequestedReviewers(Arrays.stream(reviewers)
+                .map(login -> {
+                    PullRequest.Reviewer reviewer = new PullRequest.Reviewer();
+                    reviewer.setLogin(login);
+                    return reviewer;
+                })
+                .toList());
+        return pr;
+    }
+}
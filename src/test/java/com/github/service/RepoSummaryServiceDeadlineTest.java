@@ -0,0 +1,117 @@
+package com.github.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.cache.EncodedResponseCache;
+import com.github.cache.HotKeyTracker;
+import com.github.cache.ResponseCache;
+import com.github.cache.SingleFlight;
+import com.github.cache.SnapshotStore;
+import com.github.config.GithubProperties;
+import com.github.dto.reposummary.IssueStats;
+import com.github.dto.reposummary.PullRequestStats;
+import com.github.dto.reposummary.RepoInfo;
+import com.github.dto.reposummary.RepoSummaryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepoSummaryServiceDeadlineTest {
+
+    private static final String OWNER = "octocat";
+    private static final String REPO = "hello-world";
+    private static final Duration BLOCK = Duration.ofSeconds(5);
+
+    private final StubBackend backend = new StubBackend();
+    private MeterRegistry meterRegistry;
+    private ResponseCache responseCache;
+    private RepoSummaryService service;
+
+    @BeforeEach
+    void setUp() {
+        GithubProperties properties = new GithubProperties();
+        properties.getSnapshot().setEnabled(false);
+        ObjectMapper objectMapper = new ObjectMapper();
+        meterRegistry = new SimpleMeterRegistry();
+        responseCache = new ResponseCache(properties, objectMapper,
+                new EncodedResponseCache(properties, objectMapper, meterRegistry),
+                new SnapshotStore(properties, objectMapper, meterRegistry), meterRegistry);
+        service = new RepoSummaryService(backend, responseCache, new SingleFlight(properties), properties,
+                new SummaryTiming(meterRegistry), new HotKeyTracker(properties), meterRegistry);
+    }
+
+    @Test
+    void returnsCompleteSummaryWithinDeadline() {
+        RepoSummaryResponse summary = service.getRepoSummary(OWNER, REPO, null, 1_000L).block(BLOCK);
+
+        assertThat(summary.getIssueStats().getTotalIssues()).isEqualTo(3);
+        assertThat(summary.getStale()).isNull();
+        assertThat(summary.getIncompleteSections()).isNull();
+    }
+
+    @Test
+    void fallsBackToCompletedSectionsWithoutStaleSummary() {
+        Sinks.One<PullRequestStats> pullRequestStats = Sinks.one();
+        backend.pullRequestStats = pullRequestStats.asMono();
+
+        RepoSummaryResponse partial = service.getRepoSummary(OWNER, REPO, null, 100L).block(BLOCK);
+
+        assertThat(partial.getRepoInfo().getName()).isEqualTo(REPO);
+        assertThat(partial.getIssueStats().getTotalIssues()).isEqualTo(3);
+        assertThat(partial.getPullRequestStats()).isNull();
+        assertThat(partial.getIncompleteSections()).containsExactly("pull_request_stats");
+        assertThat(deadlineExceeded("partial")).isEqualTo(1);
+
+        // 마감 시간 이후에도 계산은 계속되어 다음 요청은 캐시된 전체 요약으로 응답
+        pullRequestStats.tryEmitValue(PullRequestStats.builder().totalPrs(7).build());
+        RepoSummaryResponse next = service.getRepoSummary(OWNER, REPO, null, 1_000L).block(BLOCK);
+
+        assertThat(next.getPullRequestStats().getTotalPrs()).isEqualTo(7);
+        assertThat(next.getIncompleteSections()).isNull();
+    }
+
+    @Test
+    void fallsBackToStaleSummary() {
+        service.getRepoSummary(OWNER, REPO, null, 1_000L).block(BLOCK);
+        responseCache.invalidate(ResponseCache.REPO_SUMMARY, ResponseCache.keyPrefix(OWNER, REPO));
+        backend.issueStats = Mono.never();
+
+        RepoSummaryResponse stale = service.getRepoSummary(OWNER, REPO, null, 100L).block(BLOCK);
+
+        assertThat(stale.getStale()).isTrue();
+        assertThat(stale.getIssueStats().getTotalIssues()).isEqualTo(3);
+        assertThat(stale.getIncompleteSections()).isNull();
+        assertThat(deadlineExceeded("stale")).isEqualTo(1);
+    }
+
+    private double deadlineExceeded(String fallback) {
+        return meterRegistry.counter("github.summary.deadline.exceeded", "fallback", fallback).count();
+    }
+
+    private static final class StubBackend implements RepoSummaryBackend {
+        Mono<RepoInfo> repoInfo = Mono.just(RepoInfo.builder().name(REPO).build());
+        Mono<IssueStats> issueStats = Mono.just(IssueStats.builder().totalIssues(3).build());
+        Mono<PullRequestStats> pullRequestStats = Mono.just(PullRequestStats.builder().totalPrs(5).build());
+
+        @Override
+        public Mono<RepoInfo> fetchRepoInfo(String owner, String repo, String authHeader) {
+            return repoInfo;
+        }
+
+        @Override
+        public Mono<IssueStats> fetchIssueStats(String owner, String repo, String authHeader) {
+            return issueStats;
+        }
+
+        @Override
+        public Mono<PullRequestStats> fetchPullRequestStats(String owner, String repo, String authHeader) {
+            return pullRequestStats;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopKTest {
+
+    @Test
+    void keepsHighestScoresInDescendingOrder() {
+        TopK<String> top = new TopK<>(3);
+        top.offer("a", 5);
+        top.offer("b", 1);
+        top.offer("c", 9);
+        top.offer("d", 7);
+        top.offer("e", 3);
+
+        assertThat(top.toList()).containsExactly("c", "d", "a");
+    }
+
+    @Test
+    void prefersEarlierElementOnTie() {
+        TopK<String> top = new TopK<>(2);
+        top.offer("first", 4);
+        top.offer("second", 4);
+        top.offer("third", 4);
+
+        assertThat(top.toList()).containsExactly("first", "second");
+    }
+
+    @Test
+    void returnsFewerThanKWhenNotFull() {
+        TopK<String> top = new TopK<>(5);
+        top.offer("a", 1);
+        top.offer("b", 2);
+
+        assertThat(top.toList()).containsExactly("b", "a");
+    }
+
+    @Test
+    void keepsNothingWhenKIsZero() {
+        TopK<String> top = new TopK<>(0);
+        top.offer("a", 1);
+
+        assertThat(top.toList()).isEmpty();
+    }
+}